@@ -0,0 +1,44 @@
+package com.aimrobotics.aimlib.io;
+
+import com.aimrobotics.aimlib.util.BulkReadCache;
+import com.aimrobotics.aimlib.util.HardwareInterface;
+import com.qualcomm.robotcore.hardware.DcMotorSimple;
+
+/**
+ * BulkMotorPositionChannel class reads a motor's encoder position from a BulkReadCache for an IoExecutor
+ * Set the executor's cycle start task to the cache's startLoop so each cycle reads each hub once
+ * Bulk reads return the raw count, so the position is negated for a reversed motor to match motor.getCurrentPosition
+ */
+public class BulkMotorPositionChannel implements SensorChannel {
+
+    private final BulkReadCache cache; // cache to read from
+    private final HardwareInterface device; // hub and port of the motor
+    private final boolean isReversed; // is the motor's direction reversed
+
+    /**
+     * Constructor for BulkMotorPositionChannel for a motor in the forward direction
+     * @param cache cache to read from
+     * @param device hub and port of the motor
+     */
+    public BulkMotorPositionChannel(BulkReadCache cache, HardwareInterface device) {
+        this(cache, device, DcMotorSimple.Direction.FORWARD);
+    }
+
+    /**
+     * Constructor for BulkMotorPositionChannel
+     * @param cache cache to read from
+     * @param device hub and port of the motor
+     * @param direction direction the motor is set to
+     */
+    public BulkMotorPositionChannel(BulkReadCache cache, HardwareInterface device, DcMotorSimple.Direction direction) {
+        this.cache = cache;
+        this.device = device;
+        this.isReversed = direction == DcMotorSimple.Direction.REVERSE;
+    }
+
+    @Override
+    public double read() {
+        int rawPosition = cache.getMotorPosition(device);
+        return isReversed ? -rawPosition : rawPosition;
+    }
+}
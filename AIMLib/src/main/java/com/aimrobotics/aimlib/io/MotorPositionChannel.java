@@ -0,0 +1,24 @@
+package com.aimrobotics.aimlib.io;
+
+import com.qualcomm.robotcore.hardware.DcMotor;
+
+/**
+ * MotorPositionChannel class reads a motor's encoder position for an IoExecutor
+ */
+public class MotorPositionChannel implements SensorChannel {
+
+    private final DcMotor motor; // motor to read
+
+    /**
+     * Constructor for MotorPositionChannel
+     * @param motor motor to read
+     */
+    public MotorPositionChannel(DcMotor motor) {
+        this.motor = motor;
+    }
+
+    @Override
+    public double read() {
+        return motor.getCurrentPosition();
+    }
+}
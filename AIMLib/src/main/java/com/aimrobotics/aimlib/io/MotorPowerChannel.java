@@ -0,0 +1,24 @@
+package com.aimrobotics.aimlib.io;
+
+import com.qualcomm.robotcore.hardware.DcMotorSimple;
+
+/**
+ * MotorPowerChannel class writes the power of a motor or continuous rotation servo for an IoExecutor
+ */
+public class MotorPowerChannel implements ActuatorChannel {
+
+    private final DcMotorSimple motor; // motor to write
+
+    /**
+     * Constructor for MotorPowerChannel
+     * @param motor motor to write
+     */
+    public MotorPowerChannel(DcMotorSimple motor) {
+        this.motor = motor;
+    }
+
+    @Override
+    public void write(double value) {
+        motor.setPower(value);
+    }
+}
@@ -0,0 +1,24 @@
+package com.aimrobotics.aimlib.io;
+
+import com.qualcomm.robotcore.hardware.Servo;
+
+/**
+ * ServoPositionChannel class writes a servo's position for an IoExecutor
+ */
+public class ServoPositionChannel implements ActuatorChannel {
+
+    private final Servo servo; // servo to write
+
+    /**
+     * Constructor for ServoPositionChannel
+     * @param servo servo to write
+     */
+    public ServoPositionChannel(Servo servo) {
+        this.servo = servo;
+    }
+
+    @Override
+    public void write(double value) {
+        servo.setPosition(value);
+    }
+}
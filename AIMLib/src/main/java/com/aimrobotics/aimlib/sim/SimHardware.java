@@ -0,0 +1,77 @@
+package com.aimrobotics.aimlib.sim;
+
+import com.aimrobotics.aimlib.control.ServoModel;
+import com.aimrobotics.aimlib.control.TimeSource;
+import com.qualcomm.robotcore.hardware.HardwareMap;
+
+/**
+ * SimHardware class builds a HardwareMap of simulated devices on a Simulation
+ * Pass getHardwareMap to Mechanism.init or MechanismScheduler.init, build the controllers, clocks and scheduler on getTimeSource,
+ * then alternate a loop of the mechanisms with step, which runs a 30 second match in milliseconds
+ */
+public class SimHardware {
+
+    private final Simulation simulation; // physics and virtual time
+    private final HardwareMap hardwareMap = new HardwareMap(null, null); // map holding the simulated devices
+
+    /**
+     * Constructor for SimHardware with a new Simulation
+     */
+    public SimHardware() {
+        this(new Simulation());
+    }
+
+    /**
+     * Constructor for SimHardware
+     * @param simulation physics and virtual time
+     */
+    public SimHardware(Simulation simulation) {
+        this.simulation = simulation;
+    }
+
+    /**
+     * Adds a simulated motor
+     * @param name hardware map name
+     * @param plant plant the motor drives
+     * @param ticksPerRevolution encoder ticks per revolution of the output
+     * @return simulated motor
+     */
+    public SimMotor addMotor(String name, DcMotorPlant plant, double ticksPerRevolution) {
+        simulation.add(plant);
+        SimMotor motor = new SimMotor(name, plant, ticksPerRevolution);
+        hardwareMap.put(name, motor);
+        return motor;
+    }
+
+    /**
+     * Adds a simulated servo
+     * @param name hardware map name
+     * @param model model of the servo's motion
+     * @return simulated servo
+     */
+    public SimServo addServo(String name, ServoModel model) {
+        SimServo servo = new SimServo(name, model, simulation.getTimeSource());
+        hardwareMap.put(name, servo);
+        return servo;
+    }
+
+    /**
+     * Advances the physics and virtual time by one loop
+     * @param dt loop time in seconds
+     */
+    public void step(double dt) {
+        simulation.advance(dt);
+    }
+
+    public HardwareMap getHardwareMap() {
+        return hardwareMap;
+    }
+
+    public TimeSource getTimeSource() {
+        return simulation.getTimeSource();
+    }
+
+    public Simulation getSimulation() {
+        return simulation;
+    }
+}
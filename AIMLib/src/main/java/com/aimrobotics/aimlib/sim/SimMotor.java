@@ -0,0 +1,182 @@
+package com.aimrobotics.aimlib.sim;
+
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorController;
+import com.qualcomm.robotcore.hardware.configuration.typecontainers.MotorConfigurationType;
+
+/**
+ * SimMotor class is a DcMotor backed by a DcMotorPlant, for running mechanisms against a Simulation
+ * Power drives the plant and the encoder counts the plant's output position
+ * RUN_TO_POSITION is not simulated, control the motor with power as the mechanisms do
+ */
+public class SimMotor implements DcMotor {
+
+    private final String name; // hardware map name
+    private final DcMotorPlant plant; // plant the motor drives
+    private final double ticksPerRadian; // encoder ticks per radian of the output
+
+    private Direction direction = Direction.FORWARD; // direction of the motor
+    private RunMode mode = RunMode.RUN_WITHOUT_ENCODER; // run mode, only STOP_AND_RESET_ENCODER changes behaviour
+    private ZeroPowerBehavior zeroPowerBehavior = ZeroPowerBehavior.BRAKE; // stored for the getter only
+    private MotorConfigurationType motorType; // stored for the getter only
+    private double power = 0; // power set, before the direction
+    private double encoderZero = 0; // plant position of encoder zero in radians
+    private int targetPosition = 0; // stored for the getter only
+
+    /**
+     * Constructor for SimMotor
+     * @param name hardware map name
+     * @param plant plant the motor drives
+     * @param ticksPerRevolution encoder ticks per revolution of the output
+     */
+    public SimMotor(String name, DcMotorPlant plant, double ticksPerRevolution) {
+        this.name = name;
+        this.plant = plant;
+        this.ticksPerRadian = ticksPerRevolution / (2 * Math.PI);
+    }
+
+    private double sign() {
+        return direction == Direction.FORWARD ? 1 : -1;
+    }
+
+    @Override
+    public void setPower(double power) {
+        this.power = Math.max(-1, Math.min(1, power));
+        plant.setInput(mode == RunMode.STOP_AND_RESET_ENCODER ? 0 : sign() * this.power);
+    }
+
+    @Override
+    public double getPower() {
+        return power;
+    }
+
+    @Override
+    public int getCurrentPosition() {
+        return (int) Math.round(sign() * (plant.getPosition() - encoderZero) * ticksPerRadian);
+    }
+
+    /**
+     * Gets the encoder velocity, as DcMotorEx would
+     * @return velocity in ticks per second
+     */
+    public double getVelocity() {
+        return sign() * plant.getVelocity() * ticksPerRadian;
+    }
+
+    @Override
+    public void setMode(RunMode mode) {
+        this.mode = mode;
+        if (mode == RunMode.STOP_AND_RESET_ENCODER) {
+            encoderZero = plant.getPosition();
+            power = 0;
+            plant.setInput(0);
+        }
+    }
+
+    @Override
+    public RunMode getMode() {
+        return mode;
+    }
+
+    @Override
+    public void setDirection(Direction direction) {
+        this.direction = direction;
+        setPower(power);
+    }
+
+    @Override
+    public Direction getDirection() {
+        return direction;
+    }
+
+    @Override
+    public void setZeroPowerBehavior(ZeroPowerBehavior zeroPowerBehavior) {
+        this.zeroPowerBehavior = zeroPowerBehavior;
+    }
+
+    @Override
+    public ZeroPowerBehavior getZeroPowerBehavior() {
+        return zeroPowerBehavior;
+    }
+
+    @Deprecated
+    @Override
+    public void setPowerFloat() {
+        zeroPowerBehavior = ZeroPowerBehavior.FLOAT;
+        setPower(0);
+    }
+
+    @Override
+    public boolean getPowerFloat() {
+        return zeroPowerBehavior == ZeroPowerBehavior.FLOAT && power == 0;
+    }
+
+    @Override
+    public void setTargetPosition(int position) {
+        targetPosition = position;
+    }
+
+    @Override
+    public int getTargetPosition() {
+        return targetPosition;
+    }
+
+    @Override
+    public boolean isBusy() {
+        return false;
+    }
+
+    @Override
+    public MotorConfigurationType getMotorType() {
+        return motorType;
+    }
+
+    @Override
+    public void setMotorType(MotorConfigurationType motorType) {
+        this.motorType = motorType;
+    }
+
+    @Override
+    public DcMotorController getController() {
+        return null;
+    }
+
+    @Override
+    public int getPortNumber() {
+        return 0;
+    }
+
+    @Override
+    public Manufacturer getManufacturer() {
+        return Manufacturer.Other;
+    }
+
+    @Override
+    public String getDeviceName() {
+        return "Simulated Motor";
+    }
+
+    @Override
+    public String getConnectionInfo() {
+        return name;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public void resetDeviceConfigurationForOpMode() {
+        setPower(0);
+    }
+
+    @Override
+    public void close() {
+        setPower(0);
+    }
+
+    public DcMotorPlant getPlant() {
+        return plant;
+    }
+}
@@ -0,0 +1,118 @@
+package com.aimrobotics.aimlib.sim;
+
+import com.aimrobotics.aimlib.control.ServoModel;
+import com.aimrobotics.aimlib.control.TimeSource;
+import com.qualcomm.robotcore.hardware.Servo;
+import com.qualcomm.robotcore.hardware.ServoController;
+
+/**
+ * SimServo class is a Servo whose physical position follows a ServoModel on a Simulation's time
+ * Like a real servo getPosition only echoes the command, getActualPosition gives the simulated position
+ */
+public class SimServo implements Servo {
+
+    private final String name; // hardware map name
+    private final ServoModel model; // model of the servo's motion
+    private final TimeSource timeSource; // virtual time of the simulation
+
+    private Direction direction = Direction.FORWARD; // direction of the servo
+    private double minRange = MIN_POSITION; // low end of the scaled range
+    private double maxRange = MAX_POSITION; // high end of the scaled range
+    private double position = 0; // position set, before scaling
+
+    /**
+     * Constructor for SimServo
+     * @param name hardware map name
+     * @param model model of the servo's motion
+     * @param timeSource virtual time of the simulation
+     */
+    public SimServo(String name, ServoModel model, TimeSource timeSource) {
+        this.name = name;
+        this.model = model;
+        this.timeSource = timeSource;
+    }
+
+    @Override
+    public void setPosition(double position) {
+        this.position = Math.max(MIN_POSITION, Math.min(MAX_POSITION, position));
+        double directed = direction == Direction.FORWARD ? this.position : MAX_POSITION - this.position;
+        model.update(minRange + directed * (maxRange - minRange), timeSource.nanoTime());
+    }
+
+    @Override
+    public double getPosition() {
+        return position;
+    }
+
+    /**
+     * Gets the simulated position of the output, in raw servo units after direction and scaling
+     * @return actual position
+     */
+    public double getActualPosition() {
+        model.update(model.getCommandedPosition(), timeSource.nanoTime());
+        return model.getEstimatedPosition();
+    }
+
+    @Override
+    public void setDirection(Direction direction) {
+        this.direction = direction;
+    }
+
+    @Override
+    public Direction getDirection() {
+        return direction;
+    }
+
+    @Override
+    public void scaleRange(double min, double max) {
+        if (min < MIN_POSITION || max > MAX_POSITION || min >= max) {
+            throw new IllegalArgumentException("Servo range must be within 0 to 1 with min below max");
+        }
+        this.minRange = min;
+        this.maxRange = max;
+    }
+
+    @Override
+    public ServoController getController() {
+        return null;
+    }
+
+    @Override
+    public int getPortNumber() {
+        return 0;
+    }
+
+    @Override
+    public Manufacturer getManufacturer() {
+        return Manufacturer.Other;
+    }
+
+    @Override
+    public String getDeviceName() {
+        return "Simulated Servo";
+    }
+
+    @Override
+    public String getConnectionInfo() {
+        return name;
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public void resetDeviceConfigurationForOpMode() {
+        direction = Direction.FORWARD;
+        minRange = MIN_POSITION;
+        maxRange = MAX_POSITION;
+    }
+
+    @Override
+    public void close() { }
+
+    public ServoModel getModel() {
+        return model;
+    }
+}
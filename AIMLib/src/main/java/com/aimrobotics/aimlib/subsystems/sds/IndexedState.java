@@ -0,0 +1,50 @@
+package com.aimrobotics.aimlib.subsystems.sds;
+
+import androidx.annotation.NonNull;
+
+/**
+ * IndexedState class is a MechanismState built at runtime, for states that can not be an enum
+ */
+public class IndexedState implements MechanismState {
+
+    private final int index; // index of the state in its table
+    private final double target; // target of the state
+    private final String name; // name shown in telemetry
+
+    /**
+     * Constructor for IndexedState
+     * @param index index of the state in its table
+     * @param target target of the state
+     * @param name name shown in telemetry
+     */
+    public IndexedState(int index, double target, String name) {
+        this.index = index;
+        this.target = target;
+        this.name = name;
+    }
+
+    /**
+     * Constructor for IndexedState named after its index
+     * @param index index of the state in its table
+     * @param target target of the state
+     */
+    public IndexedState(int index, double target) {
+        this(index, target, "State " + index);
+    }
+
+    @Override
+    public int ordinal() {
+        return index;
+    }
+
+    @Override
+    public double getTarget() {
+        return target;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,20 @@
+package com.aimrobotics.aimlib.subsystems.sds;
+
+/**
+ * MechanismState interface is a preset target of a StateDrivenMechanism
+ * The ordinal is the state's index in its StateTable, so an enum implementing getTarget works as is
+ */
+public interface MechanismState {
+
+    /**
+     * Gets the index of the state in its table
+     * @return index between 0 and the number of states
+     */
+    int ordinal();
+
+    /**
+     * Gets the target of the state, a servo position, a power or a motor position depending on the mechanism
+     * @return target of the state
+     */
+    double getTarget();
+}
@@ -0,0 +1,58 @@
+package com.aimrobotics.aimlib.subsystems.sds;
+
+import com.aimrobotics.aimlib.util.CachedMotor;
+import com.qualcomm.robotcore.hardware.CRServo;
+import com.qualcomm.robotcore.hardware.DcMotorSimple;
+import com.qualcomm.robotcore.hardware.HardwareMap;
+
+/**
+ * StateDrivenCRServo class is a StateDrivenMechanism whose state targets are continuous rotation servo powers
+ */
+public class StateDrivenCRServo<S extends MechanismState> extends StateDrivenMechanism<S> {
+
+    private final DcMotorSimple.Direction direction; // direction of the servo
+    private CRServo crServo; // servo being driven
+    private CachedMotor cachedServo; // servo wrapped to skip repeated powers
+
+    /**
+     * Constructor for StateDrivenCRServo
+     * @param table states and transitions of the servo
+     * @param initState state to start in
+     * @param name hardware map name of the servo
+     */
+    public StateDrivenCRServo(StateTable<S> table, S initState, String name) {
+        this(table, initState, name, DcMotorSimple.Direction.FORWARD);
+    }
+
+    /**
+     * Constructor for StateDrivenCRServo
+     * @param table states and transitions of the servo
+     * @param initState state to start in
+     * @param name hardware map name of the servo
+     * @param direction direction of the servo
+     */
+    public StateDrivenCRServo(StateTable<S> table, S initState, String name, DcMotorSimple.Direction direction) {
+        super(table, initState, name);
+        this.direction = direction;
+    }
+
+    @Override
+    public void init(HardwareMap hwMap) {
+        crServo = hwMap.get(CRServo.class, name);
+        crServo.setDirection(direction);
+        cachedServo = new CachedMotor(crServo);
+    }
+
+    @Override
+    protected void applyTarget(double target) {
+        cachedServo.setPower(target);
+    }
+
+    public CRServo getCRServo() {
+        return crServo;
+    }
+
+    public CachedMotor getCachedServo() {
+        return cachedServo;
+    }
+}
@@ -0,0 +1,178 @@
+package com.aimrobotics.aimlib.subsystems.sds;
+
+import com.aimrobotics.aimlib.actions.Action;
+import com.aimrobotics.aimlib.gamepad.AIMPad;
+import com.aimrobotics.aimlib.util.Mechanism;
+import com.aimrobotics.aimlib.util.TelemetryAggregator;
+
+import org.firstinspires.ftc.robotcore.external.Telemetry;
+
+/**
+ * StateDrivenMechanism class drives one actuator to the target of its active state
+ * The active state is held as an index into a StateTable, so each loop reads its target from an array with no searching or allocation
+ * A custom target can replace the active state until the next state is set
+ * goToState gives an Action that changes state and finishes once the mechanism reaches the new target
+ */
+public abstract class StateDrivenMechanism<S extends MechanismState> extends Mechanism {
+
+    protected final StateTable<S> table; // states and transitions of the mechanism
+    protected final String name; // hardware map name of the actuator
+
+    private int activeIndex; // index of the active state
+    private boolean custom = false; // is the custom target active
+    private double customTarget = 0; // target used while the custom target is active
+    private double appliedTarget = Double.NaN; // target sent to the actuator by the last loop
+
+    private final String stateCaption; // caption of the active state
+    private final String targetCaption; // caption of the target
+
+    /**
+     * Constructor for StateDrivenMechanism
+     * @param table states and transitions of the mechanism
+     * @param initState state to start in
+     * @param name hardware map name of the actuator
+     */
+    protected StateDrivenMechanism(StateTable<S> table, S initState, String name) {
+        this.table = table;
+        this.activeIndex = initState.ordinal();
+        this.name = name;
+        this.stateCaption = name + " State";
+        this.targetCaption = name + " Target";
+    }
+
+    @Override
+    public void loop(AIMPad aimPad) {
+        appliedTarget = getTarget();
+        applyTarget(appliedTarget);
+    }
+
+    /**
+     * Sends a target to the actuator, called every loop
+     * @param target target of the active state or the custom target
+     */
+    protected abstract void applyTarget(double target);
+
+    @Override
+    public void telemetry(Telemetry telemetry) {
+        telemetry.addData(stateCaption, custom ? "Custom" : table.getState(activeIndex).toString());
+        telemetry.addData(targetCaption, getTarget());
+    }
+
+    @Override
+    public void aggregatedTelemetry(TelemetryAggregator aggregator) {
+        aggregator.set(stateCaption, custom ? "Custom" : table.getState(activeIndex).toString());
+        aggregator.set(targetCaption, getTarget());
+    }
+
+    /**
+     * Requests a change of state. The custom target counts as the last state set
+     * @param newActiveState state to enter
+     * @return true if the transition was allowed and the state changed
+     */
+    public boolean setActiveTargetState(S newActiveState) {
+        int index = newActiveState.ordinal();
+        if (!table.canTransition(activeIndex, index)) {
+            return false;
+        }
+        activeIndex = index;
+        custom = false;
+        return true;
+    }
+
+    /**
+     * Replaces the active state with a custom target until the next state is set
+     * @param target custom target
+     */
+    public void setActiveStateCustom(double target) {
+        customTarget = target;
+        custom = true;
+    }
+
+    /**
+     * Gets the active state, or the last state set while the custom target is active
+     * @return active state
+     */
+    public S getActiveTargetState() {
+        return table.getState(activeIndex);
+    }
+
+    /**
+     * Checks if the custom target is active
+     * @return true if the custom target is active
+     */
+    public boolean isCustom() {
+        return custom;
+    }
+
+    /**
+     * Gets the target sent to the actuator
+     * @return target of the active state or the custom target
+     */
+    public double getTarget() {
+        return custom ? customTarget : table.getTarget(activeIndex);
+    }
+
+    /**
+     * Checks if the mechanism has reached its target. Only true once a loop has sent the current target
+     * @return true if the mechanism has arrived
+     */
+    public boolean isAtTarget() {
+        return appliedTarget == getTarget() && hasArrived();
+    }
+
+    /**
+     * Checks if the actuator has reached the target sent by the last loop
+     * Actuators with no feedback or model arrive as soon as the target is sent
+     * @return true if the actuator has arrived
+     */
+    protected boolean hasArrived() {
+        return true;
+    }
+
+    /**
+     * Makes an action that changes to a state and finishes once the mechanism reaches its target
+     * The action keeps requesting the state until the transition is allowed
+     * @param state state to go to
+     * @return action going to the state
+     */
+    public Action goToState(S state) {
+        return new GoToStateAction(state);
+    }
+
+    /**
+     * GoToStateAction changes the mechanism to a state and waits for it to arrive
+     */
+    private class GoToStateAction implements Action {
+        private final S state; // state to go to
+        private boolean entered = false; // has the transition been allowed
+
+        GoToStateAction(S state) {
+            this.state = state;
+        }
+
+        @Override
+        public void start() {
+            entered = setActiveTargetState(state);
+        }
+
+        @Override
+        public boolean update() {
+            if (!entered) {
+                entered = setActiveTargetState(state);
+                return false;
+            }
+            return isAtTarget();
+        }
+
+        @Override
+        public void cancel() { }
+    }
+
+    /**
+     * Gets the states and transitions of the mechanism
+     * @return state table
+     */
+    public StateTable<S> getTable() {
+        return table;
+    }
+}
@@ -0,0 +1,126 @@
+package com.aimrobotics.aimlib.subsystems.sds;
+
+import com.aimrobotics.aimlib.control.LoopClock;
+import com.aimrobotics.aimlib.control.SimpleControlSystem;
+import com.aimrobotics.aimlib.util.BulkReadCache;
+import com.aimrobotics.aimlib.util.CachedMotor;
+import com.aimrobotics.aimlib.util.HardwareInterface;
+import com.qualcomm.robotcore.hardware.DcMotor;
+import com.qualcomm.robotcore.hardware.DcMotorSimple;
+import com.qualcomm.robotcore.hardware.HardwareMap;
+
+/**
+ * StateDrivenMotor class is a StateDrivenMechanism whose state targets are encoder positions
+ * Each loop the SimpleControlSystem drives the motor from its encoder position to the target
+ */
+public class StateDrivenMotor<S extends MechanismState> extends StateDrivenMechanism<S> {
+
+    public static final double DEFAULT_TOLERANCE = 10; // encoder ticks from the target counted as arrived
+
+    private final SimpleControlSystem controlSystem; // controller from encoder position to power
+    private final DcMotorSimple.Direction direction; // direction of the motor
+    private final LoopClock clock; // timing of the controller updates
+
+    private DcMotor motor; // motor being driven
+    private CachedMotor cachedMotor; // motor wrapped to skip repeated powers
+    private BulkReadCache bulkReadCache; // cache to read the encoder from, null to read the motor directly
+    private HardwareInterface hardwareInterface; // hub and port of the motor in the cache
+
+    private double tolerance = DEFAULT_TOLERANCE; // distance from the target counted as arrived
+    private double position; // encoder position read this loop
+    private double power; // power sent this loop
+
+    /**
+     * Constructor for StateDrivenMotor
+     * @param table states and transitions of the motor
+     * @param initState state to start in
+     * @param name hardware map name of the motor
+     * @param controlSystem controller from encoder position to power
+     */
+    public StateDrivenMotor(StateTable<S> table, S initState, String name, SimpleControlSystem controlSystem) {
+        this(table, initState, name, controlSystem, DcMotorSimple.Direction.FORWARD, new LoopClock());
+    }
+
+    /**
+     * Constructor for StateDrivenMotor
+     * @param table states and transitions of the motor
+     * @param initState state to start in
+     * @param name hardware map name of the motor
+     * @param controlSystem controller from encoder position to power
+     * @param direction direction of the motor
+     * @param clock timing of the controller updates
+     */
+    public StateDrivenMotor(StateTable<S> table, S initState, String name, SimpleControlSystem controlSystem,
+                            DcMotorSimple.Direction direction, LoopClock clock) {
+        super(table, initState, name);
+        this.controlSystem = controlSystem;
+        this.direction = direction;
+        this.clock = clock;
+    }
+
+    @Override
+    public void init(HardwareMap hwMap) {
+        motor = hwMap.get(DcMotor.class, name);
+        motor.setDirection(direction);
+        motor.setMode(DcMotor.RunMode.RUN_WITHOUT_ENCODER);
+        cachedMotor = new CachedMotor(motor);
+    }
+
+    @Override
+    protected void applyTarget(double target) {
+        double dt = clock.tick();
+        position = bulkReadCache != null ? readBulkPosition() : motor.getCurrentPosition();
+        controlSystem.setTarget(target);
+        power = controlSystem.update(position, 0, 0, dt);
+        cachedMotor.setPower(power);
+    }
+
+    @Override
+    protected boolean hasArrived() {
+        return Math.abs(controlSystem.getTarget() - position) <= tolerance;
+    }
+
+    /**
+     * Reads the encoder position from the bulk read cache
+     * Bulk reads return the raw count, so it is negated for a reversed motor to match motor.getCurrentPosition
+     * @return encoder position in ticks in the motor's direction
+     */
+    private double readBulkPosition() {
+        int rawPosition = bulkReadCache.getMotorPosition(hardwareInterface);
+        return direction == DcMotorSimple.Direction.REVERSE ? -rawPosition : rawPosition;
+    }
+
+    /**
+     * Sets the distance from the target counted as arrived
+     * @param tolerance arrival tolerance in encoder ticks
+     */
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * Reads the encoder from a bulk read cache instead of the motor
+     * @param bulkReadCache cache shared by the mechanisms, or null to read the motor directly
+     * @param hardwareInterface hub and port of the motor
+     */
+    public void setBulkReadCache(BulkReadCache bulkReadCache, HardwareInterface hardwareInterface) {
+        this.bulkReadCache = bulkReadCache;
+        this.hardwareInterface = hardwareInterface;
+    }
+
+    public double getPosition() {
+        return position;
+    }
+
+    public double getPower() {
+        return power;
+    }
+
+    public SimpleControlSystem getControlSystem() {
+        return controlSystem;
+    }
+
+    public DcMotor getMotor() {
+        return motor;
+    }
+}
@@ -0,0 +1,89 @@
+package com.aimrobotics.aimlib.subsystems.sds;
+
+import com.aimrobotics.aimlib.control.ServoModel;
+import com.aimrobotics.aimlib.control.SystemTimeSource;
+import com.aimrobotics.aimlib.control.TimeSource;
+import com.aimrobotics.aimlib.util.CachedServo;
+import com.qualcomm.robotcore.hardware.HardwareMap;
+import com.qualcomm.robotcore.hardware.Servo;
+
+/**
+ * StateDrivenPositionServo class is a StateDrivenMechanism whose state targets are servo positions
+ * Arrival comes from a ServoModel, since the servo only reports the command
+ */
+public class StateDrivenPositionServo<S extends MechanismState> extends StateDrivenMechanism<S> {
+
+    private final Servo.Direction direction; // direction of the servo
+    private Servo servo; // servo being driven
+    private CachedServo cachedServo; // servo wrapped to skip repeated positions
+    private ServoModel servoModel = new ServoModel(); // model of where the servo is
+    private TimeSource timeSource = new SystemTimeSource(); // source of the timestamps for the model
+
+    /**
+     * Constructor for StateDrivenPositionServo
+     * @param table states and transitions of the servo
+     * @param initState state to start in
+     * @param name hardware map name of the servo
+     */
+    public StateDrivenPositionServo(StateTable<S> table, S initState, String name) {
+        this(table, initState, name, Servo.Direction.FORWARD);
+    }
+
+    /**
+     * Constructor for StateDrivenPositionServo
+     * @param table states and transitions of the servo
+     * @param initState state to start in
+     * @param name hardware map name of the servo
+     * @param direction direction of the servo
+     */
+    public StateDrivenPositionServo(StateTable<S> table, S initState, String name, Servo.Direction direction) {
+        super(table, initState, name);
+        this.direction = direction;
+    }
+
+    @Override
+    public void init(HardwareMap hwMap) {
+        servo = hwMap.get(Servo.class, name);
+        servo.setDirection(direction);
+        cachedServo = new CachedServo(servo);
+    }
+
+    @Override
+    protected void applyTarget(double target) {
+        cachedServo.setPosition(target);
+        servoModel.update(target, timeSource.nanoTime());
+    }
+
+    @Override
+    protected boolean hasArrived() {
+        return servoModel.isAtTarget();
+    }
+
+    /**
+     * Sets the model of the servo's speed and load
+     * @param servoModel model of the servo
+     */
+    public void setServoModel(ServoModel servoModel) {
+        this.servoModel = servoModel;
+    }
+
+    public ServoModel getServoModel() {
+        return servoModel;
+    }
+
+    /**
+     * Sets the source of the timestamps for the model
+     * @param timeSource source of the timestamps
+     */
+    public void setTimeSource(TimeSource timeSource) {
+        this.timeSource = timeSource;
+    }
+
+    public Servo getServo() {
+        return servo;
+    }
+
+    public CachedServo getCachedServo() {
+        return cachedServo;
+    }
+}
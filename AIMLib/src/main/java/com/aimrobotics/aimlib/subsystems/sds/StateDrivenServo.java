@@ -1,7 +1,13 @@
 package com.aimrobotics.aimlib.subsystems.sds;
 
+import com.aimrobotics.aimlib.actions.Action;
+import com.aimrobotics.aimlib.control.ServoModel;
+import com.aimrobotics.aimlib.control.SystemTimeSource;
+import com.aimrobotics.aimlib.control.TimeSource;
 import com.aimrobotics.aimlib.gamepad.AIMPad;
+import com.aimrobotics.aimlib.util.CachedServo;
 import com.aimrobotics.aimlib.util.Mechanism;
+import com.aimrobotics.aimlib.util.TelemetryAggregator;
 import com.qualcomm.robotcore.hardware.HardwareMap;
 import com.qualcomm.robotcore.hardware.Servo;
 
@@ -10,6 +16,7 @@ import org.firstinspires.ftc.robotcore.external.Telemetry;
 public class StateDrivenServo extends Mechanism {
 
     Servo servo;
+    CachedServo cachedServo;
 
     String name;
 
@@ -24,6 +31,16 @@ public class StateDrivenServo extends Mechanism {
 
     private int presetStateChceker = 0;
 
+    private ServoState checkedState = null; // active state the membership check last ran on
+    private boolean isCheckedStateKnown = false; // is the checked state the custom state or one of the states
+
+    private final String stateCaption; // caption of the active state position
+    private final String targetCaption; // caption of the target position
+    private final String estimateCaption; // caption of the estimated position
+
+    private ServoModel servoModel = new ServoModel(); // model of where the servo is, since the servo only reports the command
+    private TimeSource timeSource = new SystemTimeSource(); // source of the timestamps for the model
+
     public StateDrivenServo(ServoState[] states, ServoState initState, String name) {
         this.states = states;
 
@@ -32,6 +49,9 @@ public class StateDrivenServo extends Mechanism {
 
         this.name = name;
         this.direction = Servo.Direction.FORWARD;
+        this.stateCaption = name + " State";
+        this.targetCaption = name + " Target Position";
+        this.estimateCaption = name + " Estimated Position";
     }
 
     public StateDrivenServo(ServoState[] states, ServoState initState, String name, Servo.Direction direction) {
@@ -42,36 +62,62 @@ public class StateDrivenServo extends Mechanism {
 
         this.name = name;
         this.direction = direction;
+        this.stateCaption = name + " State";
+        this.targetCaption = name + " Target Position";
+        this.estimateCaption = name + " Estimated Position";
     }
 
     @Override
     public void init(HardwareMap hwMap) {
         servo = hwMap.get(Servo.class, name);
         servo.setDirection(direction);
+        cachedServo = new CachedServo(servo);
     }
 
     @Override
     public void loop(AIMPad aimPad) {
-        if (activeTargetState.equals(customState)) {
+        if (activeTargetState != checkedState) {
+            checkedState = activeTargetState;
+            isCheckedStateKnown = isKnownState(activeTargetState);
+        }
+        if (isCheckedStateKnown) {
             targetPosition = activeTargetState.getPosition();
-        } else {
-            for (ServoState state:
-                    states) {
-                if (state == activeTargetState) {
-                    targetPosition = state.getPosition();
-                    break;
-                }
+        }
+        cachedServo.setPosition(targetPosition);
+        servoModel.update(targetPosition, timeSource.nanoTime());
+    }
+
+    /**
+     * Checks if a state is the custom state or one of the states. Only states passing the check are driven to
+     * @param state state to check
+     * @return true if the state is known
+     */
+    private boolean isKnownState(ServoState state) {
+        if (state == customState) {
+            return true;
+        }
+        for (ServoState known : states) {
+            if (known == state) {
+                return true;
             }
         }
-        servo.setPosition(targetPosition);
+        return false;
     }
 
     @Override
     public void telemetry(Telemetry telemetry) {
-        telemetry.addData("States:", states);
-        telemetry.addData("State: ", activeTargetState);
+        telemetry.addData("States", states.length);
+        telemetry.addData("State", activeTargetState.getPosition());
         telemetry.addData("Target Position", targetPosition);
         telemetry.addData("Active Position", servo.getPosition());
+        telemetry.addData("Estimated Position", servoModel.getEstimatedPosition());
+    }
+
+    @Override
+    public void aggregatedTelemetry(TelemetryAggregator aggregator) {
+        aggregator.set(stateCaption, activeTargetState.getPosition());
+        aggregator.set(targetCaption, targetPosition);
+        aggregator.set(estimateCaption, servoModel.getEstimatedPosition());
     }
 
     public void setActiveTargetState(ServoState newActiveState) {
@@ -87,6 +133,76 @@ public class StateDrivenServo extends Mechanism {
         activeTargetState = customState;
     }
 
+    public CachedServo getCachedServo() {
+        return cachedServo;
+    }
+
+    /**
+     * Gets the modeled position of the servo as of the last loop
+     * @return estimated position
+     */
+    public double getEstimatedPosition() {
+        return servoModel.getEstimatedPosition();
+    }
+
+    /**
+     * Checks if the servo is modeled to have reached the target position as of the last loop
+     * @return true if the servo has arrived
+     */
+    public boolean isAtTarget() {
+        return servoModel.isAtTarget();
+    }
+
+    /**
+     * Estimates the time left until the servo reaches the target position, as of the last loop
+     * @return seconds until arrival
+     */
+    public double getTimeToArrival() {
+        return servoModel.getTimeToArrival();
+    }
+
+    /**
+     * Makes an action that changes to a state and finishes once the servo is modeled to have arrived
+     * @param state state to go to
+     * @return action going to the state
+     */
+    public Action goToState(final ServoState state) {
+        return new Action() {
+            @Override
+            public void start() {
+                setActiveTargetState(state);
+            }
+
+            @Override
+            public boolean update() {
+                return servoModel.getCommandedPosition() == state.getPosition() && servoModel.isAtTarget();
+            }
+
+            @Override
+            public void cancel() { }
+        };
+    }
+
+    /**
+     * Sets the model of the servo's speed and load
+     * @param servoModel model of the servo
+     */
+    public void setServoModel(ServoModel servoModel) {
+        this.servoModel = servoModel;
+    }
+
+    public ServoModel getServoModel() {
+        return servoModel;
+    }
+
+    /**
+     * Sets the source of the timestamps for the model
+     * @param timeSource source of the timestamps
+     */
+    public void setTimeSource(TimeSource timeSource) {
+        this.timeSource = timeSource;
+    }
+
     public void systemsCheck(AIMPad aimpad, Telemetry telemetry) {
         if (aimpad.isAPressed()) {
             presetStateChceker = (presetStateChceker + 1) % states.length;
@@ -0,0 +1,128 @@
+package com.aimrobotics.aimlib.subsystems.sds;
+
+import java.util.Arrays;
+
+/**
+ * StateTable class precompiles the states of a StateDrivenMechanism into arrays indexed by ordinal
+ * Targets are read once when the table is built, and transitions are looked up in a flat from by to table
+ * Every transition is allowed until the first call to allow, after which only the listed transitions are
+ */
+public class StateTable<S extends MechanismState> {
+
+    private final S[] states; // states by ordinal
+    private final double[] targets; // targets by ordinal
+    private final boolean[] allowed; // allowed transitions, from * size + to
+    private final TransitionGuard[] guards; // guards of the allowed transitions, null for none
+    private boolean restricted = false; // are transitions limited to the allowed table
+
+    /**
+     * Constructor for StateTable
+     * @param states states of the table, with ordinals 0 to states.length - 1 in any order
+     */
+    public StateTable(S[] states) {
+        if (states.length == 0) {
+            throw new IllegalArgumentException("State table needs at least 1 state");
+        }
+        int size = states.length;
+        this.states = Arrays.copyOf(states, size);
+        this.targets = new double[size];
+        boolean[] seen = new boolean[size];
+        for (S state : states) {
+            int index = state.ordinal();
+            if (index < 0 || index >= size || seen[index]) {
+                throw new IllegalArgumentException("State ordinals must be unique and between 0 and " + (size - 1));
+            }
+            seen[index] = true;
+            this.states[index] = state;
+            this.targets[index] = state.getTarget();
+        }
+        this.allowed = new boolean[size * size];
+        this.guards = new TransitionGuard[size * size];
+    }
+
+    /**
+     * Builds a table from every constant of an enum
+     * @param type enum class of the states
+     * @return table of the enum constants
+     */
+    public static <E extends Enum<E> & MechanismState> StateTable<E> forEnum(Class<E> type) {
+        return new StateTable<>(type.getEnumConstants());
+    }
+
+    /**
+     * Allows a transition
+     * @param from state being left
+     * @param to state being entered
+     * @return this table, for chaining
+     */
+    public StateTable<S> allow(S from, S to) {
+        return allow(from, to, null);
+    }
+
+    /**
+     * Allows a transition while a guard holds
+     * @param from state being left
+     * @param to state being entered
+     * @param guard condition checked on each request, or null for none
+     * @return this table, for chaining
+     */
+    public StateTable<S> allow(S from, S to, TransitionGuard guard) {
+        restricted = true;
+        int index = from.ordinal() * states.length + to.ordinal();
+        allowed[index] = true;
+        guards[index] = guard;
+        return this;
+    }
+
+    /**
+     * Allows the transition from every state into a state
+     * @param to state being entered
+     * @return this table, for chaining
+     */
+    public StateTable<S> allowFromAny(S to) {
+        for (S from : states) {
+            allow(from, to);
+        }
+        return this;
+    }
+
+    /**
+     * Checks if a transition may happen now. Staying in the same state is always allowed
+     * @param from index of the state being left
+     * @param to index of the state being entered
+     * @return true if the transition is allowed and its guard holds
+     */
+    public boolean canTransition(int from, int to) {
+        if (from == to || !restricted) {
+            return true;
+        }
+        int index = from * states.length + to;
+        return allowed[index] && (guards[index] == null || guards[index].canTransition());
+    }
+
+    /**
+     * Gets a state by index
+     * @param index index of the state
+     * @return state at the index
+     */
+    public S getState(int index) {
+        return states[index];
+    }
+
+    /**
+     * Gets the target of a state by index
+     * @param index index of the state
+     * @return target read when the table was built
+     */
+    public double getTarget(int index) {
+        return targets[index];
+    }
+
+    /**
+     * Gets the number of states
+     * @return number of states
+     */
+    public int size() {
+        return states.length;
+    }
+}
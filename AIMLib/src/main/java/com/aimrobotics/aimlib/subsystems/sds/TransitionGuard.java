@@ -0,0 +1,13 @@
+package com.aimrobotics.aimlib.subsystems.sds;
+
+/**
+ * TransitionGuard interface is a condition checked when a StateDrivenMechanism is asked to change state
+ */
+public interface TransitionGuard {
+
+    /**
+     * Checks if the transition may happen now
+     * @return true to allow the transition
+     */
+    boolean canTransition();
+}
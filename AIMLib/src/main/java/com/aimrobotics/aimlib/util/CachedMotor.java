@@ -0,0 +1,67 @@
+package com.aimrobotics.aimlib.util;
+
+import com.aimrobotics.aimlib.control.SystemTimeSource;
+import com.aimrobotics.aimlib.control.TimeSource;
+import com.qualcomm.robotcore.hardware.DcMotorSimple;
+
+/**
+ * CachedMotor class only sends motor powers that differ from the last power sent
+ * Works with any DcMotorSimple, including DcMotor and CRServo
+ */
+public class CachedMotor extends CachedActuator {
+
+    private final DcMotorSimple motor; // motor being written to
+
+    /**
+     * Constructor for CachedMotor with the default epsilon and resend interval
+     * @param motor motor being written to
+     */
+    public CachedMotor(DcMotorSimple motor) {
+        this(motor, WritePolicy.DEFAULT_EPSILON, WritePolicy.DEFAULT_RESEND_INTERVAL);
+    }
+
+    /**
+     * Constructor for CachedMotor
+     * @param motor motor being written to
+     * @param epsilon change in power required before a new power is sent
+     * @param resendInterval seconds before an unchanged power is sent again, 0 to never resend
+     */
+    public CachedMotor(DcMotorSimple motor, double epsilon, double resendInterval) {
+        this(motor, epsilon, resendInterval, new SystemTimeSource());
+    }
+
+    /**
+     * Constructor for CachedMotor with a custom time source
+     * @param motor motor being written to
+     * @param epsilon change in power required before a new power is sent
+     * @param resendInterval seconds before an unchanged power is sent again, 0 to never resend
+     * @param timeSource source of the write times
+     */
+    public CachedMotor(DcMotorSimple motor, double epsilon, double resendInterval, TimeSource timeSource) {
+        super(epsilon, resendInterval, timeSource);
+        this.motor = motor;
+    }
+
+    /**
+     * Sets the power of the motor if it differs from the last power sent
+     * A power of exactly zero is always sent when the motor was last sent a nonzero power
+     * @param power target power of the motor
+     * @return true if the power was sent to the motor
+     */
+    public boolean setPower(double power) {
+        return set(power);
+    }
+
+    @Override
+    protected void write(double value) {
+        motor.setPower(value);
+    }
+
+    /**
+     * Gets the motor being written to
+     * @return motor being written to
+     */
+    public DcMotorSimple getMotor() {
+        return motor;
+    }
+}
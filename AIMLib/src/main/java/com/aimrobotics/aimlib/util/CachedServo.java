@@ -0,0 +1,65 @@
+package com.aimrobotics.aimlib.util;
+
+import com.aimrobotics.aimlib.control.SystemTimeSource;
+import com.aimrobotics.aimlib.control.TimeSource;
+import com.qualcomm.robotcore.hardware.Servo;
+
+/**
+ * CachedServo class only sends servo positions that differ from the last position sent
+ */
+public class CachedServo extends CachedActuator {
+
+    private final Servo servo; // servo being written to
+
+    /**
+     * Constructor for CachedServo with the default epsilon and resend interval
+     * @param servo servo being written to
+     */
+    public CachedServo(Servo servo) {
+        this(servo, WritePolicy.DEFAULT_EPSILON, WritePolicy.DEFAULT_RESEND_INTERVAL);
+    }
+
+    /**
+     * Constructor for CachedServo
+     * @param servo servo being written to
+     * @param epsilon change in position required before a new position is sent
+     * @param resendInterval seconds before an unchanged position is sent again, 0 to never resend
+     */
+    public CachedServo(Servo servo, double epsilon, double resendInterval) {
+        this(servo, epsilon, resendInterval, new SystemTimeSource());
+    }
+
+    /**
+     * Constructor for CachedServo with a custom time source
+     * @param servo servo being written to
+     * @param epsilon change in position required before a new position is sent
+     * @param resendInterval seconds before an unchanged position is sent again, 0 to never resend
+     * @param timeSource source of the write times
+     */
+    public CachedServo(Servo servo, double epsilon, double resendInterval, TimeSource timeSource) {
+        super(epsilon, resendInterval, timeSource);
+        this.servo = servo;
+    }
+
+    /**
+     * Sets the position of the servo if it differs from the last position sent
+     * @param position target position of the servo
+     * @return true if the position was sent to the servo
+     */
+    public boolean setPosition(double position) {
+        return set(position);
+    }
+
+    @Override
+    protected void write(double value) {
+        servo.setPosition(value);
+    }
+
+    /**
+     * Gets the servo being written to
+     * @return servo being written to
+     */
+    public Servo getServo() {
+        return servo;
+    }
+}
@@ -0,0 +1,74 @@
+package com.aimrobotics.aimlib.util;
+
+import com.qualcomm.hardware.lynx.LynxModule;
+import com.qualcomm.robotcore.hardware.HardwareMap;
+
+/**
+ * LynxBulkReadHub class adapts a REV LynxModule to the BulkReadHub interface
+ * Puts the module in manual bulk caching mode so that the SDK device reads between refreshes are served from the cache
+ * The SDK cache is cleared every time the BulkReadCache is invalidated, so direct device reads never see an earlier loop's values
+ * Keeps the SDK out of BulkReadCache, so the cache itself runs off the robot with StubBulkReadHubs
+ */
+public class LynxBulkReadHub implements BulkReadHub {
+
+    private final LynxModule module; // hub being read
+
+    /**
+     * Constructor for LynxBulkReadHub
+     * @param module hub being read
+     */
+    public LynxBulkReadHub(LynxModule module) {
+        this.module = module;
+        module.setBulkCachingMode(LynxModule.BulkCachingMode.MANUAL);
+    }
+
+    /**
+     * Creates a BulkReadCache that finds the hubs in the hardware map and refreshes once per loop
+     * @param hwMap references the robot's hardware map
+     * @return cache reading the control hub and, if there is one, the expansion hub
+     */
+    public static BulkReadCache createCache(HardwareMap hwMap) {
+        LynxModule parent = null;
+        LynxModule child = null;
+        for (LynxModule module : hwMap.getAll(LynxModule.class)) {
+            if (module.isParent()) {
+                parent = module;
+            } else {
+                child = module;
+            }
+        }
+        if (parent == null) {
+            throw new IllegalStateException("No control hub found in the hardware map");
+        }
+        return new BulkReadCache(new LynxBulkReadHub(parent), child == null ? null : new LynxBulkReadHub(child),
+                BulkReadCache.RefreshMode.ONCE_PER_LOOP);
+    }
+
+    @Override
+    public void readBulk(HubFrame frame) {
+        LynxModule.BulkData data = module.getBulkData();
+        for (int port = 0; port < HubFrame.MOTOR_PORTS; port++) {
+            frame.motorPositions[port] = data.getMotorCurrentPosition(port);
+            frame.motorVelocities[port] = data.getMotorVelocity(port);
+        }
+        for (int channel = 0; channel < HubFrame.DIGITAL_CHANNELS; channel++) {
+            frame.digitalStates[channel] = data.getDigitalChannelState(channel);
+        }
+        for (int channel = 0; channel < HubFrame.ANALOG_CHANNELS; channel++) {
+            frame.analogVoltages[channel] = data.getAnalogInputVoltage(channel);
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        module.clearBulkCache();
+    }
+
+    /**
+     * Gets the hub being read
+     * @return hub being read
+     */
+    public LynxModule getModule() {
+        return module;
+    }
+}
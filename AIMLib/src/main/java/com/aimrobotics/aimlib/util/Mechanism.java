@@ -52,4 +52,13 @@ public abstract class Mechanism {
      */
 
     public void telemetry(Telemetry telemetry) { }
+
+    /**
+     * Method to handle all telemetry for a given mechanism through a TelemetryAggregator
+     * Values set here are only formatted and sent when they change and a flush is due
+     *
+     * @param aggregator references the shared telemetry aggregator
+     */
+
+    public void aggregatedTelemetry(TelemetryAggregator aggregator) { }
 }
\ No newline at end of file
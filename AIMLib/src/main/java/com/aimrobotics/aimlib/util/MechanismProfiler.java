@@ -0,0 +1,161 @@
+package com.aimrobotics.aimlib.util;
+
+import com.aimrobotics.aimlib.control.SystemTimeSource;
+import com.aimrobotics.aimlib.control.TimeSource;
+
+import org.firstinspires.ftc.robotcore.external.Telemetry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MechanismProfiler class times the init, loop and telemetry calls of each mechanism into LoopTimeHistograms
+ * Wrap a call with begin and one of the end methods. While disabled, begin does not read the clock and the end methods return at once
+ * Recording does not allocate, so it can stay enabled during matches
+ */
+public class MechanismProfiler {
+
+    private static final long NOT_TIMING = Long.MIN_VALUE; // begin result when profiling is disabled
+
+    /**
+     * Timings holds the histograms of one mechanism
+     */
+    private static class Timings {
+        String name; // name shown in telemetry
+        final LoopTimeHistogram init = new LoopTimeHistogram(); // durations of init calls
+        final LoopTimeHistogram loop = new LoopTimeHistogram(); // durations of loop calls
+        final LoopTimeHistogram telemetry = new LoopTimeHistogram(); // durations of telemetry calls
+
+        Timings(String name) {
+            this.name = name;
+        }
+    }
+
+    private final TimeSource timeSource; // source of the timestamps
+    private final List<Timings> timings = new ArrayList<>(); // timings of each registered mechanism
+    private boolean enabled = false; // is recording on
+
+    /**
+     * Constructor for MechanismProfiler on real time
+     */
+    public MechanismProfiler() {
+        this(new SystemTimeSource());
+    }
+
+    /**
+     * Constructor for MechanismProfiler
+     * @param timeSource source of the timestamps
+     */
+    public MechanismProfiler(TimeSource timeSource) {
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * Registers a mechanism to be timed
+     * @param name name shown in telemetry
+     * @return index of the mechanism
+     */
+    public int register(String name) {
+        timings.add(new Timings(name));
+        return timings.size() - 1;
+    }
+
+    /**
+     * Changes the name a mechanism is shown under
+     * @param index index of the mechanism
+     * @param name name shown in telemetry
+     */
+    void rename(int index, String name) {
+        timings.get(index).name = name;
+    }
+
+    /**
+     * Starts timing a call
+     * @return start time to pass to an end method
+     */
+    public long begin() {
+        return enabled ? timeSource.nanoTime() : NOT_TIMING;
+    }
+
+    /**
+     * Records the duration of an init call
+     * @param index index of the mechanism
+     * @param start start time returned by begin
+     */
+    public void endInit(int index, long start) {
+        if (start != NOT_TIMING) {
+            timings.get(index).init.record(timeSource.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records the duration of a loop call
+     * @param index index of the mechanism
+     * @param start start time returned by begin
+     */
+    public void endLoop(int index, long start) {
+        if (start != NOT_TIMING) {
+            timings.get(index).loop.record(timeSource.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Records the duration of a telemetry call
+     * @param index index of the mechanism
+     * @param start start time returned by begin
+     */
+    public void endTelemetry(int index, long start) {
+        if (start != NOT_TIMING) {
+            timings.get(index).telemetry.record(timeSource.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Adds a summary of every mechanism's loop timings to telemetry, in microseconds
+     * @param telemetry references local telemetry
+     */
+    public void telemetry(Telemetry telemetry) {
+        for (int i = 0; i < timings.size(); i++) {
+            Timings mechanism = timings.get(i);
+            LoopTimeHistogram loop = mechanism.loop;
+            telemetry.addData(mechanism.name + " loop us", "p50 %.0f p90 %.0f p99 %.0f max %.0f",
+                    loop.getP50() / 1e3, loop.getP90() / 1e3, loop.getP99() / 1e3, loop.getMax() / 1e3);
+        }
+    }
+
+    /**
+     * Clears every recorded timing
+     */
+    public void reset() {
+        for (int i = 0; i < timings.size(); i++) {
+            Timings mechanism = timings.get(i);
+            mechanism.init.reset();
+            mechanism.loop.reset();
+            mechanism.telemetry.reset();
+        }
+    }
+
+    public LoopTimeHistogram getInitHistogram(int index) {
+        return timings.get(index).init;
+    }
+
+    public LoopTimeHistogram getLoopHistogram(int index) {
+        return timings.get(index).loop;
+    }
+
+    public LoopTimeHistogram getTelemetryHistogram(int index) {
+        return timings.get(index).telemetry;
+    }
+
+    /**
+     * Turns recording on or off
+     * @param enabled true to record timings
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
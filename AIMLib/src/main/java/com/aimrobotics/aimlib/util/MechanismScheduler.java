@@ -0,0 +1,445 @@
+package com.aimrobotics.aimlib.util;
+
+import com.aimrobotics.aimlib.actions.ActionRunner;
+import com.aimrobotics.aimlib.control.SystemTimeSource;
+import com.aimrobotics.aimlib.control.TimeSource;
+import com.aimrobotics.aimlib.gamepad.AIMPad;
+import com.qualcomm.robotcore.hardware.HardwareMap;
+
+import org.firstinspires.ftc.robotcore.external.Telemetry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MechanismScheduler class runs the init, loop and telemetry of every registered mechanism at its own rate
+ * Each tick runs the loop phase for every mechanism that is due in registration order, then the telemetry phase if it is due
+ * The telemetry phase runs on the last tick of each divisor period, so it does not share a tick with mechanisms running every Nth tick
+ * Mechanisms can run every tick, every Nth tick, or at most once per period of time
+ * Every call can be timed by the scheduler's MechanismProfiler, which is disabled until turned on
+ * Actions given to the scheduler's ActionRunner are advanced at the start of each tick, before the mechanisms apply their targets
+ */
+public class MechanismScheduler {
+
+    private static final String LOOP_RATE_CAPTION = "Loop Hz"; // caption of the achieved tick rate
+    private static final double RATE_SMOOTHING = 0.1; // weight of the newest interval in the achieved rate averages
+
+    /**
+     * Entry holds a registered mechanism with its rate and run history
+     */
+    private static class Entry {
+        final Mechanism mechanism; // registered mechanism
+        String name; // name of the mechanism in the profiler and telemetry
+        final boolean isDefaultName; // was the mechanism named by its class
+        final int profilerIndex; // index of the mechanism in the profiler
+        final int divisor; // ticks between runs, 0 when running by period
+        final long periodNanos; // nanoseconds between runs, 0 when running by divisor
+        final RateTracker rate = new RateTracker(); // achieved rate of the mechanism's loop
+        String rateCaption; // caption of the achieved rate in telemetry
+
+        Entry(Mechanism mechanism, String name, boolean isDefaultName, int profilerIndex, int divisor, long periodNanos) {
+            this.mechanism = mechanism;
+            this.name = name;
+            this.isDefaultName = isDefaultName;
+            this.rateCaption = name + " Hz";
+            this.profilerIndex = profilerIndex;
+            this.divisor = divisor;
+            this.periodNanos = periodNanos;
+        }
+
+        boolean isDue(long tick, long now) {
+            if (periodNanos > 0) {
+                return !rate.hasRun || now - rate.lastRunTime >= periodNanos;
+            }
+            return tick % divisor == 0;
+        }
+    }
+
+    /**
+     * RateTracker measures how often something actually runs
+     */
+    private static class RateTracker {
+        boolean hasRun = false; // has it run yet
+        long lastRunTime = 0; // time of the last run in nanoseconds
+        long runCount = 0; // number of runs
+        double averagePeriodNanos = 0; // smoothed time between runs
+
+        void record(long now) {
+            if (hasRun) {
+                double period = now - lastRunTime;
+                averagePeriodNanos = averagePeriodNanos == 0 ? period : averagePeriodNanos + RATE_SMOOTHING * (period - averagePeriodNanos);
+            }
+            hasRun = true;
+            lastRunTime = now;
+            runCount++;
+        }
+
+        double getRate() {
+            return averagePeriodNanos == 0 ? 0 : 1e9 / averagePeriodNanos;
+        }
+    }
+
+    private final TimeSource timeSource; // source of the timestamps
+    private final MechanismProfiler profiler; // profiler timing every call
+    private final ActionRunner actions = new ActionRunner(); // actions advanced once per tick
+    private final List<Entry> entries = new ArrayList<>(); // registered mechanisms in run order
+
+    private Telemetry telemetry; // telemetry the telemetry phase writes to, null to skip the telemetry phase
+    private TelemetryAggregator aggregator; // aggregator the telemetry phase writes to, null to skip the aggregated telemetry
+    private int telemetryDivisor = 1; // ticks between plain telemetry phases
+    private int aggregatorDivisor = 1; // ticks between aggregated telemetry phases
+    private boolean reportRates = false; // does the telemetry phase include the achieved rates
+
+    private long tick = 0; // number of ticks run
+    private final RateTracker tickRate = new RateTracker(); // achieved rate of the ticks
+    private final RateTracker telemetryRate = new RateTracker(); // achieved rate of the telemetry phase
+
+    /**
+     * Constructor for MechanismScheduler on real time
+     */
+    public MechanismScheduler() {
+        this(new SystemTimeSource());
+    }
+
+    /**
+     * Constructor for MechanismScheduler
+     * @param timeSource source of the timestamps
+     */
+    public MechanismScheduler(TimeSource timeSource) {
+        this.timeSource = timeSource;
+        this.profiler = new MechanismProfiler(timeSource);
+    }
+
+    /**
+     * Registers a mechanism that runs every tick, named by its class
+     * @param mechanism mechanism to run
+     * @return index of the mechanism
+     */
+    public int register(Mechanism mechanism) {
+        return register(mechanism, 1);
+    }
+
+    /**
+     * Registers a mechanism that runs every Nth tick, named by its class
+     * @param mechanism mechanism to run
+     * @param divisor ticks between runs
+     * @return index of the mechanism
+     */
+    public int register(Mechanism mechanism, int divisor) {
+        return register(null, mechanism, divisor);
+    }
+
+    /**
+     * Registers a mechanism that runs every Nth tick
+     * @param name name of the mechanism in the profiler and telemetry, must be unique, or null to name it by its class
+     * @param mechanism mechanism to run
+     * @param divisor ticks between runs
+     * @return index of the mechanism
+     */
+    public int register(String name, Mechanism mechanism, int divisor) {
+        if (divisor < 1) {
+            throw new IllegalArgumentException("Divisor must be at least 1");
+        }
+        return addEntry(name, mechanism, divisor, 0);
+    }
+
+    /**
+     * Registers a mechanism that runs at most once per period, named by its class
+     * @param mechanism mechanism to run
+     * @param periodMilliseconds milliseconds between runs
+     * @return index of the mechanism
+     */
+    public int registerPeriodic(Mechanism mechanism, double periodMilliseconds) {
+        return registerPeriodic(null, mechanism, periodMilliseconds);
+    }
+
+    /**
+     * Registers a mechanism that runs at most once per period
+     * @param name name of the mechanism in the profiler and telemetry, must be unique, or null to name it by its class
+     * @param mechanism mechanism to run
+     * @param periodMilliseconds milliseconds between runs
+     * @return index of the mechanism
+     */
+    public int registerPeriodic(String name, Mechanism mechanism, double periodMilliseconds) {
+        if (periodMilliseconds <= 0) {
+            throw new IllegalArgumentException("Period must be positive");
+        }
+        return addEntry(name, mechanism, 0, (long) (periodMilliseconds * 1e6));
+    }
+
+    /**
+     * Adds a registered mechanism and its profiler entry
+     * An explicit name taken by a mechanism named by its class is given to the new mechanism, and the other one is renamed
+     * @param name unique name of the mechanism, or null to name it by its class
+     * @param mechanism mechanism to run
+     * @param divisor ticks between runs, 0 when running by period
+     * @param periodNanos nanoseconds between runs, 0 when running by divisor
+     * @return index of the mechanism
+     */
+    private int addEntry(String name, Mechanism mechanism, int divisor, long periodNanos) {
+        boolean isDefaultName = name == null;
+        if (isDefaultName) {
+            name = defaultName(mechanism);
+        } else {
+            int holder = indexOfName(name);
+            if (holder >= 0) {
+                Entry entry = entries.get(holder);
+                if (!entry.isDefaultName) {
+                    throw new IllegalArgumentException("A mechanism named " + name + " is already registered");
+                }
+                entry.name = defaultName(entry.mechanism);
+                entry.rateCaption = entry.name + " Hz";
+                profiler.rename(entry.profilerIndex, entry.name);
+            }
+        }
+        entries.add(new Entry(mechanism, name, isDefaultName, profiler.register(name), divisor, periodNanos));
+        return entries.size() - 1;
+    }
+
+    /**
+     * Names a mechanism by its class, adding the lowest number from 2 up that makes the name unique
+     * @param mechanism mechanism to name
+     * @return unique name of the mechanism
+     */
+    private String defaultName(Mechanism mechanism) {
+        String base = mechanism.getClass().getSimpleName();
+        String name = base;
+        for (int number = 2; indexOfName(name) >= 0; number++) {
+            name = base + " " + number;
+        }
+        return name;
+    }
+
+    /**
+     * Finds a registered mechanism by name
+     * @param name name to find
+     * @return index of the mechanism, or -1 if no mechanism has that name
+     */
+    private int indexOfName(String name) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).name.equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sets the telemetry phase, which runs every registered mechanism's telemetry and then updates the telemetry
+     * @param telemetry telemetry to write to, null to skip the telemetry phase
+     * @param divisor ticks between plain telemetry phases
+     */
+    public void setTelemetry(Telemetry telemetry, int divisor) {
+        if (divisor < 1) {
+            throw new IllegalArgumentException("Divisor must be at least 1");
+        }
+        this.telemetry = telemetry;
+        this.telemetryDivisor = divisor;
+    }
+
+    /**
+     * Sets the aggregated telemetry phase, which runs every registered mechanism's aggregated telemetry and then updates the aggregator
+     * The aggregator sends the values on its own flush interval, and replaces the plain telemetry phase while it is set
+     * The divisor is kept apart from the plain telemetry's, which applies again once the aggregator is cleared
+     * @param aggregator aggregator to write to, null to skip the aggregated telemetry
+     * @param divisor ticks between aggregated telemetry phases
+     */
+    public void setTelemetryAggregator(TelemetryAggregator aggregator, int divisor) {
+        if (divisor < 1) {
+            throw new IllegalArgumentException("Divisor must be at least 1");
+        }
+        this.aggregator = aggregator;
+        this.aggregatorDivisor = divisor;
+    }
+
+    /**
+     * Sets if the telemetry phase includes the achieved rate of the ticks and of every mechanism
+     * @param reportRates true to include the achieved rates
+     */
+    public void setReportRates(boolean reportRates) {
+        this.reportRates = reportRates;
+    }
+
+    /**
+     * Initializes every registered mechanism in registration order
+     * @param hwMap references the robot's hardware map
+     */
+    public void init(HardwareMap hwMap) {
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            long start = profiler.begin();
+            entry.mechanism.init(hwMap);
+            profiler.endInit(entry.profilerIndex, start);
+        }
+    }
+
+    /**
+     * Runs one tick with a single gamepad
+     * @param gamepad references AIMPad in slot one
+     */
+    public void loop(AIMPad gamepad) {
+        long now = timeSource.nanoTime();
+        actions.update();
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (entry.isDue(tick, now)) {
+                long start = profiler.begin();
+                entry.mechanism.loop(gamepad);
+                profiler.endLoop(entry.profilerIndex, start);
+                entry.rate.record(now);
+            }
+        }
+        finishTick(now);
+    }
+
+    /**
+     * Runs one tick with two gamepads
+     * @param gamepad1 references AIMPad in slot one
+     * @param gamepad2 references AIMPad in slot two
+     */
+    public void loop(AIMPad gamepad1, AIMPad gamepad2) {
+        long now = timeSource.nanoTime();
+        actions.update();
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (entry.isDue(tick, now)) {
+                long start = profiler.begin();
+                entry.mechanism.loop(gamepad1, gamepad2);
+                profiler.endLoop(entry.profilerIndex, start);
+                entry.rate.record(now);
+            }
+        }
+        finishTick(now);
+    }
+
+    /**
+     * Runs the telemetry phase if it is due and advances the tick count
+     * @param now time of the tick in nanoseconds
+     */
+    private void finishTick(long now) {
+        if (aggregator != null) {
+            if (isTelemetryDue(aggregatorDivisor)) {
+                for (int i = 0; i < entries.size(); i++) {
+                    Entry entry = entries.get(i);
+                    long start = profiler.begin();
+                    entry.mechanism.aggregatedTelemetry(aggregator);
+                    profiler.endTelemetry(entry.profilerIndex, start);
+                }
+                if (reportRates) {
+                    aggregator.set(LOOP_RATE_CAPTION, tickRate.getRate());
+                    for (int i = 0; i < entries.size(); i++) {
+                        Entry entry = entries.get(i);
+                        aggregator.set(entry.rateCaption, entry.rate.getRate());
+                    }
+                }
+                aggregator.update();
+                telemetryRate.record(now);
+            }
+        } else if (telemetry != null) {
+            if (isTelemetryDue(telemetryDivisor)) {
+                for (int i = 0; i < entries.size(); i++) {
+                    Entry entry = entries.get(i);
+                    long start = profiler.begin();
+                    entry.mechanism.telemetry(telemetry);
+                    profiler.endTelemetry(entry.profilerIndex, start);
+                }
+                if (reportRates) {
+                    telemetry.addData(LOOP_RATE_CAPTION, tickRate.getRate());
+                    for (int i = 0; i < entries.size(); i++) {
+                        Entry entry = entries.get(i);
+                        telemetry.addData(entry.rateCaption, entry.rate.getRate());
+                    }
+                }
+                telemetry.update();
+                telemetryRate.record(now);
+            }
+        }
+        tickRate.record(now);
+        tick++;
+    }
+
+    /**
+     * Checks if a telemetry phase is due, on the last tick of each divisor period
+     * Mechanisms running every Nth tick run on the first tick of the period, so the two do not pile onto one tick
+     * @param divisor ticks between telemetry phases
+     * @return true if the telemetry phase runs this tick
+     */
+    private boolean isTelemetryDue(int divisor) {
+        return tick % divisor == divisor - 1;
+    }
+
+    /**
+     * Gets the achieved loop rate of a registered mechanism
+     * @param index index of the mechanism
+     * @return smoothed runs per second
+     */
+    public double getAchievedRate(int index) {
+        return entries.get(index).rate.getRate();
+    }
+
+    /**
+     * Gets the name of a registered mechanism in the profiler and telemetry
+     * @param index index of the mechanism
+     * @return name of the mechanism
+     */
+    public String getName(int index) {
+        return entries.get(index).name;
+    }
+
+    /**
+     * Gets the number of times a registered mechanism has run its loop
+     * @param index index of the mechanism
+     * @return number of loop runs
+     */
+    public long getRunCount(int index) {
+        return entries.get(index).rate.runCount;
+    }
+
+    /**
+     * Gets the achieved tick rate of the scheduler
+     * @return smoothed ticks per second
+     */
+    public double getTickRate() {
+        return tickRate.getRate();
+    }
+
+    /**
+     * Gets the achieved rate of the telemetry phase
+     * @return smoothed telemetry phases per second
+     */
+    public double getTelemetryRate() {
+        return telemetryRate.getRate();
+    }
+
+    /**
+     * Gets the profiler timing every call. Indices match the indices returned when registering
+     * @return profiler of the scheduler
+     */
+    public MechanismProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Gets the runner whose actions are advanced at the start of each tick
+     * @return action runner of the scheduler
+     */
+    public ActionRunner getActionRunner() {
+        return actions;
+    }
+
+    /**
+     * Gets the number of ticks run
+     * @return number of ticks
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the number of registered mechanisms
+     * @return number of mechanisms
+     */
+    public int size() {
+        return entries.size();
+    }
+}
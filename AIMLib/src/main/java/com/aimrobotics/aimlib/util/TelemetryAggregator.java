@@ -0,0 +1,267 @@
+package com.aimrobotics.aimlib.util;
+
+import com.aimrobotics.aimlib.control.SystemTimeSource;
+import com.aimrobotics.aimlib.control.TimeSource;
+
+import org.firstinspires.ftc.robotcore.external.Telemetry;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * TelemetryAggregator class collects telemetry values into preallocated slots and sends them to the Driver Station at a limited rate
+ * Setting a value only stores it. Values are formatted only when they changed, and only when a flush is due
+ * Each slot becomes a retained telemetry item whose value is replaced in place, so captions are never rebuilt
+ */
+public class TelemetryAggregator {
+
+    public static final String DEFAULT_FORMAT = "%.3f"; // format of number slots without a custom format
+
+    private static final int KIND_NUMBER = 0; // slot holds a number
+    private static final int KIND_BOOLEAN = 1; // slot holds a boolean
+    private static final int KIND_TEXT = 2; // slot holds text
+
+    private final Telemetry telemetry; // telemetry the values are sent to
+    private final TimeSource timeSource; // source of the timestamps for the flush rate
+    private final int capacity; // maximum number of slots
+    private int size = 0; // number of slots added
+
+    private final String[] captions; // caption of each slot
+    private final String[] formats; // format of each number slot
+    private final int[] kinds; // kind of value held by each slot
+    private final double[] numbers; // number or boolean held by each slot
+    private final String[] texts; // text held by each slot
+    private final boolean[] changed; // has each slot changed since the last flush
+    private final Telemetry.Item[] items; // telemetry item of each slot, created on its first flush
+    private final Map<String, Integer> slotsByCaption = new HashMap<>(); // slot of each caption
+
+    private long flushIntervalNanos; // nanoseconds between flushes
+    private boolean hasFlushed = false; // has a flush happened
+    private long lastFlushTime = 0; // time of the last flush in nanoseconds
+    private long formatCount = 0; // number of values formatted
+
+    /**
+     * Constructor for TelemetryAggregator on real time
+     * @param telemetry telemetry the values are sent to
+     * @param capacity maximum number of slots
+     * @param flushIntervalMilliseconds milliseconds between flushes
+     */
+    public TelemetryAggregator(Telemetry telemetry, int capacity, double flushIntervalMilliseconds) {
+        this(telemetry, capacity, flushIntervalMilliseconds, new SystemTimeSource());
+    }
+
+    /**
+     * Constructor for TelemetryAggregator
+     * @param telemetry telemetry the values are sent to
+     * @param capacity maximum number of slots
+     * @param flushIntervalMilliseconds milliseconds between flushes
+     * @param timeSource source of the timestamps for the flush rate
+     */
+    public TelemetryAggregator(Telemetry telemetry, int capacity, double flushIntervalMilliseconds, TimeSource timeSource) {
+        this.telemetry = telemetry;
+        this.timeSource = timeSource;
+        this.capacity = capacity;
+        captions = new String[capacity];
+        formats = new String[capacity];
+        kinds = new int[capacity];
+        numbers = new double[capacity];
+        texts = new String[capacity];
+        changed = new boolean[capacity];
+        items = new Telemetry.Item[capacity];
+        setFlushInterval(flushIntervalMilliseconds);
+    }
+
+    /**
+     * Adds a slot for numbers shown with the default format
+     * @param caption caption of the slot
+     * @return index of the slot
+     */
+    public int addSlot(String caption) {
+        return addSlot(caption, DEFAULT_FORMAT);
+    }
+
+    /**
+     * Adds a slot for numbers shown with a custom format
+     * @param caption caption of the slot
+     * @param format format of the number, such as "%.2f"
+     * @return index of the slot
+     */
+    public int addSlot(String caption, String format) {
+        Integer existing = slotsByCaption.get(caption);
+        if (existing != null) {
+            return existing;
+        }
+        if (size == capacity) {
+            throw new IllegalStateException("TelemetryAggregator is full, capacity is " + capacity);
+        }
+        int slot = size++;
+        captions[slot] = caption;
+        formats[slot] = format;
+        slotsByCaption.put(caption, slot);
+        return slot;
+    }
+
+    /**
+     * Sets a number slot
+     * @param slot index of the slot
+     * @param value number to show
+     */
+    public void set(int slot, double value) {
+        if (kinds[slot] != KIND_NUMBER || Double.compare(numbers[slot], value) != 0 || items[slot] == null) {
+            kinds[slot] = KIND_NUMBER;
+            numbers[slot] = value;
+            changed[slot] = true;
+        }
+    }
+
+    /**
+     * Sets a boolean slot
+     * @param slot index of the slot
+     * @param value boolean to show
+     */
+    public void set(int slot, boolean value) {
+        double encoded = value ? 1 : 0;
+        if (kinds[slot] != KIND_BOOLEAN || numbers[slot] != encoded || items[slot] == null) {
+            kinds[slot] = KIND_BOOLEAN;
+            numbers[slot] = encoded;
+            changed[slot] = true;
+        }
+    }
+
+    /**
+     * Sets a text slot
+     * @param slot index of the slot
+     * @param value text to show, null shows as null
+     */
+    public void set(int slot, String value) {
+        boolean isSame = value == null ? texts[slot] == null : value.equals(texts[slot]);
+        if (kinds[slot] != KIND_TEXT || !isSame || items[slot] == null) {
+            kinds[slot] = KIND_TEXT;
+            texts[slot] = value;
+            changed[slot] = true;
+        }
+    }
+
+    /**
+     * Sets a number by caption, adding a slot the first time the caption is used
+     * Keep captions in fields so that no string is built on each call
+     * @param caption caption of the slot
+     * @param value number to show
+     */
+    public void set(String caption, double value) {
+        set(slotFor(caption), value);
+    }
+
+    /**
+     * Sets a boolean by caption, adding a slot the first time the caption is used
+     * @param caption caption of the slot
+     * @param value boolean to show
+     */
+    public void set(String caption, boolean value) {
+        set(slotFor(caption), value);
+    }
+
+    /**
+     * Sets text by caption, adding a slot the first time the caption is used
+     * @param caption caption of the slot
+     * @param value text to show
+     */
+    public void set(String caption, String value) {
+        set(slotFor(caption), value);
+    }
+
+    /**
+     * Gets the slot of a caption, adding one if the caption has not been used
+     * @param caption caption of the slot
+     * @return index of the slot
+     */
+    private int slotFor(String caption) {
+        Integer slot = slotsByCaption.get(caption);
+        return slot != null ? slot : addSlot(caption);
+    }
+
+    /**
+     * Flushes the changed values if the flush interval has passed
+     * Call once per loop
+     * @return true if a flush happened
+     */
+    public boolean update() {
+        long now = timeSource.nanoTime();
+        if (hasFlushed && now - lastFlushTime < flushIntervalNanos) {
+            return false;
+        }
+        flush(now);
+        return true;
+    }
+
+    /**
+     * Formats the changed values and sends them to the Driver Station now
+     */
+    public void flush() {
+        flush(timeSource.nanoTime());
+    }
+
+    /**
+     * Formats the changed values and sends them to the Driver Station
+     * @param now time of the flush in nanoseconds
+     */
+    private void flush(long now) {
+        for (int slot = 0; slot < size; slot++) {
+            if (!changed[slot]) {
+                continue;
+            }
+            String text = format(slot);
+            if (items[slot] == null) {
+                items[slot] = telemetry.addData(captions[slot], text);
+                items[slot].setRetained(true);
+            } else {
+                items[slot].setValue(text);
+            }
+            changed[slot] = false;
+            formatCount++;
+        }
+        telemetry.update();
+        hasFlushed = true;
+        lastFlushTime = now;
+    }
+
+    /**
+     * Formats the value of a slot
+     * @param slot index of the slot
+     * @return text of the value
+     */
+    private String format(int slot) {
+        switch (kinds[slot]) {
+            case KIND_BOOLEAN:
+                return numbers[slot] != 0 ? "true" : "false";
+            case KIND_TEXT:
+                return String.valueOf(texts[slot]);
+            default:
+                return String.format(formats[slot], numbers[slot]);
+        }
+    }
+
+    /**
+     * Sets the time between flushes
+     * @param flushIntervalMilliseconds milliseconds between flushes
+     */
+    public void setFlushInterval(double flushIntervalMilliseconds) {
+        this.flushIntervalNanos = (long) (flushIntervalMilliseconds * 1e6);
+    }
+
+    /**
+     * Gets the number of values formatted since construction
+     * @return number of values formatted
+     */
+    public long getFormatCount() {
+        return formatCount;
+    }
+
+    /**
+     * Gets the number of slots added
+     * @return number of slots
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,25 @@
+package com.aimrobotics.aimlib.actions;
+
+/**
+ * Action interface is one step of a macro, advanced once per loop instead of blocking it
+ * An action is started once, updated every loop until it reports finished, and cancelled if it is cut short
+ * Actions can be reused after they finish by starting them again
+ */
+public interface Action {
+
+    /**
+     * Starts the action, called once before its first update
+     */
+    void start();
+
+    /**
+     * Advances the action by one loop
+     * @return true once the action is finished
+     */
+    boolean update();
+
+    /**
+     * Stops the action before it finished, such as when it loses a race
+     */
+    void cancel();
+}
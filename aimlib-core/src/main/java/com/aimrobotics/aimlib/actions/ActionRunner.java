@@ -0,0 +1,195 @@
+package com.aimrobotics.aimlib.actions;
+
+/**
+ * ActionRunner class advances every running action once per loop, next to the mechanisms it commands
+ * Running actions are kept in a preallocated array, so updating and finishing them does not allocate
+ * Actions may start and cancel actions from inside their update. Those calls are queued and applied once every running action
+ * has been updated, in the order they were made
+ */
+public class ActionRunner {
+
+    public static final int DEFAULT_CAPACITY = 16; // actions that can run at once
+
+    private final Action[] running; // running actions in start order
+    private int size = 0; // number of running actions
+
+    private final Action[] queued; // actions started or cancelled during update, null for a cancel of every action
+    private final boolean[] queuedCancels; // is each queued call a cancel rather than a start
+    private int queuedSize = 0; // number of queued calls
+    private int queuedStarts = 0; // number of queued starts
+    private boolean updating = false; // are the running actions being updated
+
+    /**
+     * Constructor for ActionRunner with the default capacity
+     */
+    public ActionRunner() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for ActionRunner
+     * @param capacity actions that can run at once
+     */
+    public ActionRunner(int capacity) {
+        running = new Action[capacity];
+        queued = new Action[capacity];
+        queuedCancels = new boolean[capacity];
+    }
+
+    /**
+     * Starts an action. It is first updated on the next call to update
+     * Called from inside update, the action is started once every running action has been updated
+     * @param action action to run
+     */
+    public void run(Action action) {
+        if (size + queuedStarts == running.length) {
+            throw new IllegalStateException("Action runner is full, " + running.length + " actions are running");
+        }
+        if (updating) {
+            queue(action, false);
+            queuedStarts++;
+            return;
+        }
+        action.start();
+        running[size++] = action;
+    }
+
+    /**
+     * Advances every running action and removes the ones that finished
+     */
+    public void update() {
+        updating = true;
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Action action = running[i];
+            if (!action.update()) {
+                running[kept++] = action;
+            }
+        }
+        for (int i = kept; i < size; i++) {
+            running[i] = null;
+        }
+        size = kept;
+        updating = false;
+        applyQueued();
+    }
+
+    /**
+     * Queues a start or cancel made during update
+     * @param action action to start or cancel, null to cancel every action
+     * @param isCancel true to cancel, false to start
+     */
+    private void queue(Action action, boolean isCancel) {
+        if (queuedSize == queued.length) {
+            throw new IllegalStateException("More than " + queued.length + " actions started or cancelled in one update");
+        }
+        queued[queuedSize] = action;
+        queuedCancels[queuedSize] = isCancel;
+        queuedSize++;
+    }
+
+    /**
+     * Checks if an action was started during the current update
+     * @param action action to check
+     * @return true if a start of the action is queued
+     */
+    private boolean isQueuedStart(Action action) {
+        for (int i = 0; i < queuedSize; i++) {
+            if (queued[i] == action && !queuedCancels[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Applies the starts and cancels queued during update in the order they were made
+     */
+    private void applyQueued() {
+        int count = queuedSize;
+        queuedSize = 0;
+        queuedStarts = 0;
+        for (int i = 0; i < count; i++) {
+            Action action = queued[i];
+            queued[i] = null;
+            if (!queuedCancels[i]) {
+                run(action);
+            } else if (action == null) {
+                cancelAll();
+            } else {
+                cancel(action);
+            }
+        }
+    }
+
+    /**
+     * Cancels one running action
+     * Called from inside update, the action is cancelled once every running action has been updated, unless it finished first
+     * @param action action to cancel
+     * @return true if the action was running
+     */
+    public boolean cancel(Action action) {
+        if (updating) {
+            boolean isRunning = isRunning(action) || isQueuedStart(action);
+            if (isRunning) {
+                queue(action, true);
+            }
+            return isRunning;
+        }
+        for (int i = 0; i < size; i++) {
+            if (running[i] == action) {
+                action.cancel();
+                System.arraycopy(running, i + 1, running, i, size - i - 1);
+                running[--size] = null;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cancels every running action
+     * Called from inside update, the actions are cancelled once every running action has been updated
+     */
+    public void cancelAll() {
+        if (updating) {
+            queue(null, true);
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            running[i].cancel();
+            running[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Checks if an action is running
+     * @param action action to check
+     * @return true if the action is running
+     */
+    public boolean isRunning(Action action) {
+        for (int i = 0; i < size; i++) {
+            if (running[i] == action) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if any action is running
+     * @return true if any action is running
+     */
+    public boolean isBusy() {
+        return size > 0;
+    }
+
+    /**
+     * Gets the number of running actions
+     * @return number of running actions
+     */
+    public int size() {
+        return size;
+    }
+}
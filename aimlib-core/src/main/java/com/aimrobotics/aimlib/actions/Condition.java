@@ -0,0 +1,13 @@
+package com.aimrobotics.aimlib.actions;
+
+/**
+ * Condition interface is a check polled by WaitUntilAction
+ */
+public interface Condition {
+
+    /**
+     * Checks the condition
+     * @return true once the condition holds
+     */
+    boolean isMet();
+}
@@ -0,0 +1,30 @@
+package com.aimrobotics.aimlib.actions;
+
+/**
+ * InstantAction class runs a task once when started and finishes on its first update
+ */
+public class InstantAction implements Action {
+
+    private final Runnable task; // task run on start
+
+    /**
+     * Constructor for InstantAction
+     * @param task task run on start
+     */
+    public InstantAction(Runnable task) {
+        this.task = task;
+    }
+
+    @Override
+    public void start() {
+        task.run();
+    }
+
+    @Override
+    public boolean update() {
+        return true;
+    }
+
+    @Override
+    public void cancel() { }
+}
@@ -0,0 +1,51 @@
+package com.aimrobotics.aimlib.actions;
+
+/**
+ * ParallelAction class runs its actions together and finishes when all of them have finished
+ */
+public class ParallelAction implements Action {
+
+    private final Action[] actions; // actions run together
+    private final boolean[] finished; // which actions have finished
+    private int remaining = 0; // number of actions still running
+
+    /**
+     * Constructor for ParallelAction
+     * @param actions actions run together
+     */
+    public ParallelAction(Action... actions) {
+        this.actions = actions;
+        this.finished = new boolean[actions.length];
+    }
+
+    @Override
+    public void start() {
+        for (int i = 0; i < actions.length; i++) {
+            finished[i] = false;
+            actions[i].start();
+        }
+        remaining = actions.length;
+    }
+
+    @Override
+    public boolean update() {
+        for (int i = 0; i < actions.length; i++) {
+            if (!finished[i] && actions[i].update()) {
+                finished[i] = true;
+                remaining--;
+            }
+        }
+        return remaining == 0;
+    }
+
+    @Override
+    public void cancel() {
+        for (int i = 0; i < actions.length; i++) {
+            if (!finished[i]) {
+                actions[i].cancel();
+                finished[i] = true;
+            }
+        }
+        remaining = 0;
+    }
+}
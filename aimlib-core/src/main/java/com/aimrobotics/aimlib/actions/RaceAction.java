@@ -0,0 +1,52 @@
+package com.aimrobotics.aimlib.actions;
+
+/**
+ * RaceAction class runs its actions together and finishes as soon as one of them finishes, cancelling the rest
+ * Racing an action against a WaitAction gives it a timeout
+ */
+public class RaceAction implements Action {
+
+    private final Action[] actions; // actions run together
+
+    /**
+     * Constructor for RaceAction
+     * @param actions actions run together
+     */
+    public RaceAction(Action... actions) {
+        this.actions = actions;
+    }
+
+    @Override
+    public void start() {
+        for (int i = 0; i < actions.length; i++) {
+            actions[i].start();
+        }
+    }
+
+    @Override
+    public boolean update() {
+        int winner = -1;
+        for (int i = 0; i < actions.length; i++) {
+            if (actions[i].update()) {
+                winner = i;
+                break;
+            }
+        }
+        if (winner < 0) {
+            return actions.length == 0;
+        }
+        for (int i = 0; i < actions.length; i++) {
+            if (i != winner) {
+                actions[i].cancel();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void cancel() {
+        for (int i = 0; i < actions.length; i++) {
+            actions[i].cancel();
+        }
+    }
+}
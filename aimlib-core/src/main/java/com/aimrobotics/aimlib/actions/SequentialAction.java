@@ -0,0 +1,49 @@
+package com.aimrobotics.aimlib.actions;
+
+/**
+ * SequentialAction class runs its actions one after another
+ * When an action finishes the next one starts and is updated in the same loop, so instant steps cost no extra loops
+ */
+public class SequentialAction implements Action {
+
+    private final Action[] actions; // actions in run order
+    private int index = 0; // index of the running action
+
+    /**
+     * Constructor for SequentialAction
+     * @param actions actions in run order
+     */
+    public SequentialAction(Action... actions) {
+        this.actions = actions;
+    }
+
+    @Override
+    public void start() {
+        index = 0;
+        if (actions.length > 0) {
+            actions[0].start();
+        }
+    }
+
+    @Override
+    public boolean update() {
+        while (index < actions.length) {
+            if (!actions[index].update()) {
+                return false;
+            }
+            index++;
+            if (index < actions.length) {
+                actions[index].start();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void cancel() {
+        if (index < actions.length) {
+            actions[index].cancel();
+        }
+        index = actions.length;
+    }
+}
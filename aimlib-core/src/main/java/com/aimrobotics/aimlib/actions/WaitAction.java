@@ -0,0 +1,45 @@
+package com.aimrobotics.aimlib.actions;
+
+import com.aimrobotics.aimlib.control.SystemTimeSource;
+import com.aimrobotics.aimlib.control.TimeSource;
+
+/**
+ * WaitAction class finishes once a duration has passed since it started
+ */
+public class WaitAction implements Action {
+
+    private final long durationNanos; // duration of the wait in nanoseconds
+    private final TimeSource timeSource; // source of the timestamps
+    private long startTime = 0; // time the wait started in nanoseconds
+
+    /**
+     * Constructor for WaitAction on real time
+     * @param seconds duration of the wait
+     */
+    public WaitAction(double seconds) {
+        this(seconds, new SystemTimeSource());
+    }
+
+    /**
+     * Constructor for WaitAction
+     * @param seconds duration of the wait
+     * @param timeSource source of the timestamps
+     */
+    public WaitAction(double seconds, TimeSource timeSource) {
+        this.durationNanos = (long) (seconds * 1e9);
+        this.timeSource = timeSource;
+    }
+
+    @Override
+    public void start() {
+        startTime = timeSource.nanoTime();
+    }
+
+    @Override
+    public boolean update() {
+        return timeSource.nanoTime() - startTime >= durationNanos;
+    }
+
+    @Override
+    public void cancel() { }
+}
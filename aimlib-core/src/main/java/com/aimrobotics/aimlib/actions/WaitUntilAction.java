@@ -0,0 +1,28 @@
+package com.aimrobotics.aimlib.actions;
+
+/**
+ * WaitUntilAction class finishes on the first update where its condition holds
+ */
+public class WaitUntilAction implements Action {
+
+    private final Condition condition; // condition polled each update
+
+    /**
+     * Constructor for WaitUntilAction
+     * @param condition condition polled each update
+     */
+    public WaitUntilAction(Condition condition) {
+        this.condition = condition;
+    }
+
+    @Override
+    public void start() { }
+
+    @Override
+    public boolean update() {
+        return condition.isMet();
+    }
+
+    @Override
+    public void cancel() { }
+}
@@ -0,0 +1,115 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * AlphaBetaFilter class estimates position and velocity with fixed correction gains
+ * Each update predicts the position from the velocity estimate over dt, then corrects position by alpha and velocity by beta / dt times the residual
+ * With a control gain the prediction also includes the acceleration the applied output causes
+ */
+public class AlphaBetaFilter implements StateEstimator {
+
+    private double alpha; // share of the residual added to the position
+    private double beta; // share of the residual per dt added to the velocity
+    private double controlGain = 0; // acceleration per unit of control input, 0 to ignore the input
+
+    private boolean hasStarted = false; // has a measurement been taken
+    private double position = 0; // estimated position
+    private double velocity = 0; // estimated velocity
+    private double residual = 0; // measurement minus prediction of the last update
+
+    /**
+     * Constructor for AlphaBetaFilter
+     * @param alpha share of the residual added to the position, between 0 and 1
+     * @param beta share of the residual per dt added to the velocity, between 0 and 2
+     */
+    public AlphaBetaFilter(double alpha, double beta) {
+        setGains(alpha, beta);
+    }
+
+    @Override
+    public void update(double measurement, double controlInput, double dt) {
+        if (!hasStarted) {
+            position = measurement;
+            velocity = 0;
+            residual = 0;
+            hasStarted = true;
+            return;
+        }
+        if (dt <= 0) {
+            return;
+        }
+        updateGains(dt);
+        double acceleration = controlGain * controlInput;
+        double predictedPosition = position + velocity * dt + 0.5 * acceleration * dt * dt;
+        double predictedVelocity = velocity + acceleration * dt;
+        residual = measurement - predictedPosition;
+        position = predictedPosition + alpha * residual;
+        velocity = predictedVelocity + beta / dt * residual;
+    }
+
+    /**
+     * Updates the gains for the step about to be taken. Fixed gains by default
+     * @param dt change in time of the step in seconds
+     */
+    protected void updateGains(double dt) { }
+
+    /**
+     * Sets the correction gains
+     * @param alpha share of the residual added to the position, between 0 and 1
+     * @param beta share of the residual per dt added to the velocity, between 0 and 2
+     */
+    protected void setGains(double alpha, double beta) {
+        if (alpha <= 0 || alpha > 1 || beta < 0 || beta > 2) {
+            throw new IllegalArgumentException("Alpha must be in (0, 1] and beta in [0, 2]");
+        }
+        this.alpha = alpha;
+        this.beta = beta;
+    }
+
+    /**
+     * Sets the acceleration one unit of control input causes
+     * The input must be only the share of the output that accelerates the system, without the kV, kStatic, kG and kCos terms,
+     * as SimpleControlSystem gives it. The gain is then 1 / kA of the feedforward
+     * @param controlGain acceleration per unit of control input, 0 to ignore the input
+     */
+    public void setControlGain(double controlGain) {
+        this.controlGain = controlGain;
+    }
+
+    @Override
+    public void reset() {
+        hasStarted = false;
+        position = 0;
+        velocity = 0;
+        residual = 0;
+    }
+
+    @Override
+    public double getPosition() {
+        return position;
+    }
+
+    @Override
+    public double getVelocity() {
+        return velocity;
+    }
+
+    /**
+     * Gets the measurement minus the prediction of the last update
+     * @return residual of the last update
+     */
+    public double getResidual() {
+        return residual;
+    }
+
+    public double getAlpha() {
+        return alpha;
+    }
+
+    public double getBeta() {
+        return beta;
+    }
+
+    public double getControlGain() {
+        return controlGain;
+    }
+}
@@ -0,0 +1,121 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * BiquadFilter class is a second order filter for low pass, high pass and notch filtering
+ * Coefficients follow the Audio EQ Cookbook by Robert Bristow-Johnson and run in transposed direct form II
+ * A second order low pass falls off twice as fast as a LowPassFilter above the cutoff, and a notch removes one frequency such as motor vibration
+ */
+public class BiquadFilter extends SignalFilter {
+
+    public static final double BUTTERWORTH_Q = 1 / Math.sqrt(2); // quality factor with the flattest passband
+
+    private final double b0, b1, b2; // feedforward coefficients, normalized by a0
+    private final double a1, a2; // feedback coefficients, normalized by a0
+
+    private double state1 = 0; // first delay of the transposed direct form
+    private double state2 = 0; // second delay of the transposed direct form
+
+    /**
+     * Constructor for BiquadFilter from raw coefficients
+     * @param b0 current input coefficient
+     * @param b1 previous input coefficient
+     * @param b2 second previous input coefficient
+     * @param a0 current output coefficient, the rest are divided by it
+     * @param a1 previous output coefficient
+     * @param a2 second previous output coefficient
+     */
+    public BiquadFilter(double b0, double b1, double b2, double a0, double a1, double a2) {
+        if (a0 == 0) {
+            throw new IllegalArgumentException("a0 must not be zero");
+        }
+        this.b0 = b0 / a0;
+        this.b1 = b1 / a0;
+        this.b2 = b2 / a0;
+        this.a1 = a1 / a0;
+        this.a2 = a2 / a0;
+    }
+
+    /**
+     * Creates a second order low pass filter
+     * @param cutoffHz frequency in hertz at which the signal starts to be reduced
+     * @param sampleRateHz samples per second
+     * @param q quality factor, BUTTERWORTH_Q for no peak at the cutoff
+     * @return low pass biquad filter
+     */
+    public static BiquadFilter lowPass(double cutoffHz, double sampleRateHz, double q) {
+        double w0 = angularFrequency(cutoffHz, sampleRateHz, q);
+        double cos = Math.cos(w0);
+        double alpha = Math.sin(w0) / (2 * q);
+        return new BiquadFilter((1 - cos) / 2, 1 - cos, (1 - cos) / 2, 1 + alpha, -2 * cos, 1 - alpha);
+    }
+
+    /**
+     * Creates a second order high pass filter
+     * @param cutoffHz frequency in hertz below which the signal is reduced
+     * @param sampleRateHz samples per second
+     * @param q quality factor, BUTTERWORTH_Q for no peak at the cutoff
+     * @return high pass biquad filter
+     */
+    public static BiquadFilter highPass(double cutoffHz, double sampleRateHz, double q) {
+        double w0 = angularFrequency(cutoffHz, sampleRateHz, q);
+        double cos = Math.cos(w0);
+        double alpha = Math.sin(w0) / (2 * q);
+        return new BiquadFilter((1 + cos) / 2, -(1 + cos), (1 + cos) / 2, 1 + alpha, -2 * cos, 1 - alpha);
+    }
+
+    /**
+     * Creates a notch filter that removes one frequency
+     * @param centerHz frequency in hertz to remove
+     * @param sampleRateHz samples per second
+     * @param q quality factor, higher for a narrower notch
+     * @return notch biquad filter
+     */
+    public static BiquadFilter notch(double centerHz, double sampleRateHz, double q) {
+        double w0 = angularFrequency(centerHz, sampleRateHz, q);
+        double cos = Math.cos(w0);
+        double alpha = Math.sin(w0) / (2 * q);
+        return new BiquadFilter(1, -2 * cos, 1, 1 + alpha, -2 * cos, 1 - alpha);
+    }
+
+    /**
+     * Checks the design parameters and finds the normalized angular frequency
+     * @param frequencyHz design frequency in hertz
+     * @param sampleRateHz samples per second
+     * @param q quality factor
+     * @return angular frequency in radians per sample
+     */
+    private static double angularFrequency(double frequencyHz, double sampleRateHz, double q) {
+        if (frequencyHz <= 0 || frequencyHz >= sampleRateHz / 2) {
+            throw new IllegalArgumentException("Frequency must be between 0 and half the sample rate");
+        }
+        if (q <= 0) {
+            throw new IllegalArgumentException("Quality factor must be positive");
+        }
+        return 2 * Math.PI * frequencyHz / sampleRateHz;
+    }
+
+    @Override
+    public double filter(double input) {
+        double output = b0 * input + state1;
+        state1 = b1 * input - a1 * output + state2;
+        state2 = b2 * input - a2 * output;
+        return output;
+    }
+
+    /**
+     * Sets the filter state to the steady state of a constant input, so filtering starts without a transient
+     * @param input constant input to settle on
+     */
+    public void settle(double input) {
+        double dcGain = (b0 + b1 + b2) / (1 + a1 + a2);
+        double output = dcGain * input;
+        state2 = b2 * input - a2 * output;
+        state1 = b1 * input - a1 * output + state2;
+    }
+
+    @Override
+    public void reset() {
+        state1 = 0;
+        state2 = 0;
+    }
+}
@@ -0,0 +1,248 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * ControllerBank class evaluates many control systems per loop from primitive arrays
+ * Each channel matches a SimpleControlSystem made of a PIDController, FeedforwardController and LowPassFilter
+ * using cosine and gravity compensation,
+ * but gains and state are stored column by column so one update runs every channel in a single loop without allocating
+ */
+public class ControllerBank {
+
+    private final int capacity; // maximum number of channels
+    private int size = 0; // number of channels added
+
+    // PID gains
+    private final double[] kP; // proportional constants
+    private final double[] kI; // integral constants
+    private final double[] kD; // derivative constants
+    private final double[] derivativeGain; // gains of the derivative low pass filters
+    private final double[] integralSumMax; // maximum values of the integral sums
+
+    // feedforward gains
+    private final double[] kV; // velocity proportional constants
+    private final double[] kA; // acceleration proportional constants
+    private final double[] kStatic; // static friction constants
+    private final double[] kCos; // cosine compensation constants
+    private final double[] kG; // gravity compensation constants
+
+    private final double[] stateGain; // gains of the state low pass filters
+
+    // inputs
+    private final double[] target; // target values
+    private final double[] state; // current states
+    private final double[] referenceVelocity; // reference velocities
+    private final double[] referenceAcceleration; // reference accelerations
+
+    // controller state
+    private final double[] filteredState; // previous outputs of the state low pass filters
+    private final double[] filteredDerivative; // previous outputs of the derivative low pass filters
+    private final double[] integralSum; // sums of the integrals
+    private final double[] previousError; // previous errors
+    private final boolean[] hasPreviousError; // has an error been recorded
+
+    private final double[] output; // outputs of the last update
+
+    private final CosineTable[] cosineTable; // tables for the cosine compensation
+
+    /**
+     * Constructor for ControllerBank
+     * @param capacity maximum number of channels
+     */
+    public ControllerBank(int capacity) {
+        this.capacity = capacity;
+        kP = new double[capacity];
+        kI = new double[capacity];
+        kD = new double[capacity];
+        derivativeGain = new double[capacity];
+        integralSumMax = new double[capacity];
+        kV = new double[capacity];
+        kA = new double[capacity];
+        kStatic = new double[capacity];
+        kCos = new double[capacity];
+        kG = new double[capacity];
+        stateGain = new double[capacity];
+        target = new double[capacity];
+        state = new double[capacity];
+        referenceVelocity = new double[capacity];
+        referenceAcceleration = new double[capacity];
+        filteredState = new double[capacity];
+        filteredDerivative = new double[capacity];
+        integralSum = new double[capacity];
+        previousError = new double[capacity];
+        hasPreviousError = new boolean[capacity];
+        output = new double[capacity];
+        cosineTable = new CosineTable[capacity];
+    }
+
+    /**
+     * Adds a channel with the same gains as an existing control system
+     * @param controlSystem control system to copy the gains from, must use a low pass filter
+     * @return index of the new channel
+     */
+    public int addChannel(SimpleControlSystem controlSystem) {
+        if (controlSystem.getLowPassFilter() == null) {
+            throw new IllegalArgumentException("ControllerBank only supports control systems with a low pass filter");
+        }
+        return addChannel(controlSystem.getPIDController(), controlSystem.getFeedforwardController(), controlSystem.getLowPassFilter());
+    }
+
+    /**
+     * Adds a channel with the same gains as existing controllers
+     * @param pidController PID controller to copy the gains from
+     * @param feedforwardController feedforward controller to copy the gains from
+     * @param lowPassFilter state low pass filter to copy the gain from
+     * @return index of the new channel
+     */
+    public int addChannel(PIDController pidController, FeedforwardController feedforwardController, LowPassFilter lowPassFilter) {
+        if (feedforwardController.getPositionTable() != null) {
+            throw new IllegalArgumentException("ControllerBank does not support feedforward position tables");
+        }
+        int channel = addChannel(pidController.getKP(), pidController.getKI(), pidController.getKD(),
+                pidController.getDerivativeLowPassGain(), pidController.getIntegralSumMax(),
+                feedforwardController.getKV(), feedforwardController.getKA(), feedforwardController.getKStatic(),
+                feedforwardController.getKCos(), feedforwardController.getKG(),
+                lowPassFilter.getGain());
+        cosineTable[channel] = feedforwardController.getCosineTable();
+        return channel;
+    }
+
+    /**
+     * Adds a channel
+     * @param kP proportional constant
+     * @param kI integral constant
+     * @param kD derivative constant
+     * @param derivativeLowPassGain gain for the low pass filter on the derivative
+     * @param integralSumMax maximum value of the integral sum
+     * @param kV velocity proportional constant
+     * @param kA acceleration proportional constant
+     * @param kStatic static friction constant
+     * @param kCos cosine compensation constant in degrees
+     * @param kG gravity compensation constant
+     * @param stateLowPassGain gain for the low pass filter on the state
+     * @return index of the new channel
+     */
+    public int addChannel(double kP, double kI, double kD, double derivativeLowPassGain, double integralSumMax,
+                          double kV, double kA, double kStatic, double kCos, double kG, double stateLowPassGain) {
+        if (size == capacity) {
+            throw new IllegalStateException("ControllerBank is full, capacity is " + capacity);
+        }
+        int channel = size++;
+        this.kP[channel] = kP;
+        this.kI[channel] = kI;
+        this.kD[channel] = kD;
+        this.derivativeGain[channel] = derivativeLowPassGain;
+        this.integralSumMax[channel] = integralSumMax;
+        this.kV[channel] = kV;
+        this.kA[channel] = kA;
+        this.kStatic[channel] = kStatic;
+        this.kCos[channel] = kCos;
+        this.kG[channel] = kG;
+        this.stateGain[channel] = stateLowPassGain;
+        this.cosineTable[channel] = CosineTable.DEFAULT;
+        return channel;
+    }
+
+    /**
+     * Sets the target value of a channel
+     * @param channel index of the channel
+     * @param target target value of the channel
+     */
+    public void setTarget(int channel, double target) {
+        this.target[channel] = target;
+    }
+
+    /**
+     * Sets the current state of a channel for the next update
+     * @param channel index of the channel
+     * @param state current state/position/value of the channel
+     */
+    public void setState(int channel, double state) {
+        this.state[channel] = state;
+    }
+
+    /**
+     * Sets the reference velocity and acceleration of a channel for the next update
+     * @param channel index of the channel
+     * @param referenceVelocity reference velocity of the channel
+     * @param referenceAcceleration reference acceleration of the channel
+     */
+    public void setReference(int channel, double referenceVelocity, double referenceAcceleration) {
+        this.referenceVelocity[channel] = referenceVelocity;
+        this.referenceAcceleration[channel] = referenceAcceleration;
+    }
+
+    /**
+     * Updates every channel with one shared change in time
+     * Matches SimpleControlSystem.update(state, referenceVelocity, referenceAcceleration, dt) for each channel
+     * @param dt change in time since the last update in seconds
+     */
+    public void update(double dt) {
+        for (int i = 0; i < size; i++) {
+            double filtered = stateGain[i] * filteredState[i] + (1 - stateGain[i]) * state[i];
+            filteredState[i] = filtered;
+
+            double error = target[i] - filtered;
+            double derivative = 0;
+            if (dt > 0) {
+                if (hasPreviousError[i]) {
+                    derivative = derivativeGain[i] * filteredDerivative[i] + (1 - derivativeGain[i]) * ((error - previousError[i]) / dt);
+                    filteredDerivative[i] = derivative;
+                }
+                double previous = previousError[i];
+                double sum = integralSum[i];
+                if ((error > 0 && previous < 0) || (error < 0 && previous > 0)) {
+                    sum = 0;
+                }
+                sum += error * dt;
+                if (Math.abs(sum) > integralSumMax[i]) {
+                    sum = Math.signum(sum) * integralSumMax[i];
+                }
+                integralSum[i] = sum;
+            }
+            previousError[i] = error;
+            hasPreviousError[i] = true;
+
+            double pidOutput = (kP[i] * error) + (kI[i] * integralSum[i]) + (kD[i] * derivative);
+            double feedforwardOutput = (kV[i] * referenceVelocity[i]) + (kA[i] * referenceAcceleration[i])
+                    + (Math.signum(referenceVelocity[i]) * kStatic[i]) + ((cosineTable[i].cosDegrees(target[i]) * kCos[i]) + kG[i]);
+            output[i] = pidOutput + feedforwardOutput;
+        }
+    }
+
+    /**
+     * Gets the output of a channel from the last update
+     * @param channel index of the channel
+     * @return output of the channel
+     */
+    public double getOutput(int channel) {
+        return output[channel];
+    }
+
+    /**
+     * Clears the controller state of a channel so its next update starts fresh
+     * @param channel index of the channel
+     */
+    public void reset(int channel) {
+        filteredState[channel] = 0;
+        filteredDerivative[channel] = 0;
+        integralSum[channel] = 0;
+        previousError[channel] = 0;
+        hasPreviousError[channel] = false;
+    }
+
+    /**
+     * Gets the number of channels added
+     * @return number of channels
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the maximum number of channels
+     * @return maximum number of channels
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,61 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * CosineTable class approximates cosine of an angle in degrees from a precomputed table with linear interpolation
+ * With n entries per turn the error against Math.cos is at most (2 * PI / n)^2 / 8
+ */
+public class CosineTable {
+
+    public static final int DEFAULT_RESOLUTION = 720; // entries per turn of the shared table, error below 1e-5
+    public static final CosineTable DEFAULT = new CosineTable(DEFAULT_RESOLUTION); // table shared by the feedforward controllers
+
+    private final int resolution; // entries per turn
+    private final double entriesPerDegree; // entries per degree of angle
+    private final double[] table; // cosine at each entry, with the first entry repeated at the end
+
+    /**
+     * Constructor for CosineTable
+     * @param resolution entries per turn
+     */
+    public CosineTable(int resolution) {
+        if (resolution < 4) {
+            throw new IllegalArgumentException("Cosine table needs at least 4 entries");
+        }
+        this.resolution = resolution;
+        this.entriesPerDegree = resolution / 360.0;
+        this.table = new double[resolution + 1];
+        for (int i = 0; i <= resolution; i++) {
+            table[i] = Math.cos(2 * Math.PI * i / resolution);
+        }
+    }
+
+    /**
+     * Approximates the cosine of an angle
+     * @param degrees angle in degrees, any value
+     * @return cosine of the angle
+     */
+    public double cosDegrees(double degrees) {
+        double position = degrees * entriesPerDegree;
+        double floor = Math.floor(position);
+        double fraction = position - floor;
+        int index = (int) (floor - resolution * Math.floor(floor / resolution));
+        return table[index] + (table[index + 1] - table[index]) * fraction;
+    }
+
+    /**
+     * Gets the largest error of the table against Math.cos
+     * @return bound on the absolute error
+     */
+    public double getMaxError() {
+        double step = 2 * Math.PI / resolution;
+        return step * step / 8;
+    }
+
+    /**
+     * Gets the number of entries per turn
+     * @return entries per turn
+     */
+    public int getResolution() {
+        return resolution;
+    }
+}
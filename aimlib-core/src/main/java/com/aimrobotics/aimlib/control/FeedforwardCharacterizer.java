@@ -0,0 +1,255 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * FeedforwardCharacterizer class finds the FeedforwardController gains of a mechanism by driving it through test powers
+ * It runs a slow quasistatic ramp and a step in each direction, settling between them, and returns the power for each loop
+ * Every sample is fitted as it arrives with RecursiveLeastSquares, power = kV * v + kA * a + kStatic * sign(v) + kCos * cos(position) + kG,
+ * so nothing is stored and the fit quality is known at any point
+ * Position is in the units the controller will be given, degrees from horizontal when fitting kCos
+ */
+public class FeedforwardCharacterizer {
+
+    public static final double NOMINAL_VOLTAGE = 12; // battery voltage the fitted gains are scaled to
+
+    /**
+     * Phase is a step of the characterization routine
+     */
+    public enum Phase {
+        QUASISTATIC_FORWARD(1, false),
+        QUASISTATIC_REVERSE(-1, false),
+        STEP_FORWARD(1, true),
+        STEP_REVERSE(-1, true),
+        DONE(0, false);
+
+        final int direction; // direction of the test power
+        final boolean isStep; // is the test a step rather than a ramp
+
+        Phase(int direction, boolean isStep) {
+            this.direction = direction;
+            this.isStep = isStep;
+        }
+    }
+
+    private final double rampRate; // power added per second during the ramps
+    private final double stepPower; // power of the steps
+    private final double testDuration; // longest time of each test in seconds
+
+    private double settleTime = 1; // time at zero power between tests in seconds
+    private double minVelocity = 1e-3; // velocity below which samples are skipped
+    private double minPosition = Double.NEGATIVE_INFINITY; // position that ends a reverse test
+    private double maxPosition = Double.POSITIVE_INFINITY; // position that ends a forward test
+    private final boolean fitCos; // is kCos fitted
+    private final boolean fitGravity; // is kG fitted
+
+    private final RecursiveLeastSquares fit; // running fit of the gains
+    private final double[] features; // features of the current sample, reused
+    private LowPassFilter accelerationFilter = new LowPassFilter(0); // smoothing of the differentiated velocity, none by default
+
+    private Phase phase = Phase.QUASISTATIC_FORWARD; // test being run
+    private boolean settling = false; // is the routine resting before the test
+    private double phaseTime = 0; // time in the current test or rest in seconds
+    private double previousVelocity = 0; // velocity of the last sample
+    private boolean hasPreviousVelocity = false; // has a velocity been seen in this test
+    private double power = 0; // power returned by the last update
+
+    /**
+     * Constructor for FeedforwardCharacterizer
+     * @param rampRate power added per second during the ramps, such as 0.1
+     * @param stepPower power of the steps, such as 0.5
+     * @param testDuration longest time of each test in seconds
+     * @param fitCos true to fit kCos, for arms
+     * @param fitGravity true to fit kG, for slides and lifts
+     */
+    public FeedforwardCharacterizer(double rampRate, double stepPower, double testDuration, boolean fitCos, boolean fitGravity) {
+        this.rampRate = rampRate;
+        this.stepPower = stepPower;
+        this.testDuration = testDuration;
+        this.fitCos = fitCos;
+        this.fitGravity = fitGravity;
+        int size = 3 + (fitCos ? 1 : 0) + (fitGravity ? 1 : 0);
+        this.fit = new RecursiveLeastSquares(size);
+        this.features = new double[size];
+    }
+
+    /**
+     * Records a sample and gets the power for this loop, at nominal voltage
+     * @param position measured position
+     * @param velocity measured velocity
+     * @param dt time since the last update in seconds
+     * @return power to apply
+     */
+    public double update(double position, double velocity, double dt) {
+        return update(position, velocity, dt, NOMINAL_VOLTAGE);
+    }
+
+    /**
+     * Records a sample and gets the power for this loop
+     * The power applied last loop is scaled by the battery voltage so the gains hold at nominal voltage
+     * @param position measured position
+     * @param velocity measured velocity
+     * @param dt time since the last update in seconds
+     * @param batteryVoltage measured battery voltage
+     * @return power to apply
+     */
+    public double update(double position, double velocity, double dt, double batteryVoltage) {
+        if (phase == Phase.DONE) {
+            power = 0;
+            return power;
+        }
+        if (!settling && dt > 0) {
+            record(position, velocity, dt, power * batteryVoltage / NOMINAL_VOLTAGE);
+        }
+
+        phaseTime += dt;
+        if (settling) {
+            if (phaseTime >= settleTime) {
+                settling = false;
+                phaseTime = 0;
+                hasPreviousVelocity = false;
+            }
+        } else if (phaseTime >= testDuration
+                || (phase.direction > 0 && position >= maxPosition)
+                || (phase.direction < 0 && position <= minPosition)) {
+            phase = Phase.values()[phase.ordinal() + 1];
+            settling = phase != Phase.DONE;
+            phaseTime = 0;
+        }
+
+        if (settling || phase == Phase.DONE) {
+            power = 0;
+        } else if (phase.isStep) {
+            power = phase.direction * stepPower;
+        } else {
+            power = phase.direction * Math.min(rampRate * phaseTime, 1);
+        }
+        return power;
+    }
+
+    /**
+     * Adds a sample of the running test to the fit
+     * The power was held over the whole interval, so it is matched with the mean velocity and acceleration of the interval
+     * @param position measured position
+     * @param velocity measured velocity
+     * @param dt time since the last sample in seconds
+     * @param appliedPower power applied since the last sample, scaled to nominal voltage
+     */
+    private void record(double position, double velocity, double dt, double appliedPower) {
+        if (!hasPreviousVelocity) {
+            previousVelocity = velocity;
+            hasPreviousVelocity = true;
+            return;
+        }
+        double acceleration = accelerationFilter.filter((velocity - previousVelocity) / dt);
+        double midVelocity = (velocity + previousVelocity) / 2;
+        previousVelocity = velocity;
+        if (Math.abs(midVelocity) < minVelocity) {
+            return;
+        }
+        int index = 0;
+        features[index++] = midVelocity;
+        features[index++] = acceleration;
+        features[index++] = Math.signum(midVelocity);
+        if (fitCos) {
+            features[index++] = CosineTable.DEFAULT.cosDegrees(position);
+        }
+        if (fitGravity) {
+            features[index] = 1;
+        }
+        fit.update(features, appliedPower);
+    }
+
+    /**
+     * Builds a controller from the gains fitted so far
+     * @return controller with the fitted gains
+     */
+    public FeedforwardController toController() {
+        return new FeedforwardController(getKV(), getKA(), getKStatic(), getKCos(), getKG());
+    }
+
+    /**
+     * Sets the positions that end a test early, to keep the mechanism inside its travel
+     * @param minPosition position that ends a reverse test
+     * @param maxPosition position that ends a forward test
+     */
+    public void setPositionLimits(double minPosition, double maxPosition) {
+        this.minPosition = minPosition;
+        this.maxPosition = maxPosition;
+    }
+
+    /**
+     * Sets the time at zero power between tests
+     * @param settleTime rest time in seconds
+     */
+    public void setSettleTime(double settleTime) {
+        this.settleTime = settleTime;
+    }
+
+    /**
+     * Sets the smoothing of the acceleration differentiated from velocity, for noisy encoders
+     * Smoothing lags the acceleration behind the power, which biases kA low, so keep it as small as the noise allows
+     * @param gain low pass gain, 0 for none
+     */
+    public void setAccelerationFilterGain(double gain) {
+        this.accelerationFilter = new LowPassFilter(gain);
+    }
+
+    /**
+     * Sets the velocity below which samples are skipped, since static friction hides the model there
+     * @param minVelocity smallest velocity sampled
+     */
+    public void setMinVelocity(double minVelocity) {
+        this.minVelocity = minVelocity;
+    }
+
+    public double getKV() {
+        return fit.getParameter(0);
+    }
+
+    public double getKA() {
+        return fit.getParameter(1);
+    }
+
+    public double getKStatic() {
+        return fit.getParameter(2);
+    }
+
+    public double getKCos() {
+        return fitCos ? fit.getParameter(3) : 0;
+    }
+
+    public double getKG() {
+        return fitGravity ? fit.getParameter(fitCos ? 4 : 3) : 0;
+    }
+
+    /**
+     * Gets the share of the power explained by the fit
+     * @return coefficient of determination, 1 for a perfect fit
+     */
+    public double getRSquared() {
+        return fit.getRSquared();
+    }
+
+    /**
+     * Gets the root mean squared error of the fit
+     * @return error in power units
+     */
+    public double getRMSE() {
+        return fit.getRMSE();
+    }
+
+    public long getSampleCount() {
+        return fit.getCount();
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public boolean isFinished() {
+        return phase == Phase.DONE;
+    }
+
+    public double getPower() {
+        return power;
+    }
+}
@@ -0,0 +1,147 @@
+package com.aimrobotics.aimlib.control;
+
+
+/**
+ * FeedforwardController class implements feedforward control on a system
+ * Has expanded usages for arm and slide systems with cosine and gravity compensation
+ * The cosine term is read from a precomputed table, and can be replaced by a measured position to output table
+ *
+ * @Author Nate Schmelkin
+ * Inspiration from 479 StuyFusion and ThermalEquilibrium
+ */
+public class FeedforwardController {
+
+    private double kV; // velocity proportional constant
+    private double kA; // acceleration proportional constant
+    private double kStatic; // static friction constant
+    private double kCos; // cosine compensation constant
+    private double kG; // gravity compensation constant
+
+    private CosineTable cosineTable = CosineTable.DEFAULT; // table for the cosine compensation
+    private InterpolatingTable positionTable; // measured position to output table, replaces cosine and gravity compensation when set
+
+    /**
+     * Constructor for FeedforwardController
+     * @param kV velocity proportional constant
+     * @param kA acceleration proportional constant
+     * @param kStatic static friction constant
+     * @param kCos cosine compensation constant in degrees
+     * @param kG gravity compensation constant
+     */
+    public FeedforwardController(double kV, double kA, double kStatic, double kCos, double kG) {
+        this.kV = kV;
+        this.kA = kA;
+        this.kStatic = kStatic;
+        this.kCos = kCos;
+        this.kG = kG;
+    }
+
+    /**
+     * Constructor for FeedforwardController with a measured position to output table in place of cosine and gravity compensation
+     * Use for linkages that do not follow the ideal arm model
+     * @param kV velocity proportional constant
+     * @param kA acceleration proportional constant
+     * @param kStatic static friction constant
+     * @param positionTable measured output needed to hold each position
+     */
+    public FeedforwardController(double kV, double kA, double kStatic, InterpolatingTable positionTable) {
+        this(kV, kA, kStatic, 0, 0);
+        this.positionTable = positionTable;
+    }
+
+    /**
+     * Calculate the feedforward output
+     * Static friction is applied in the direction of the reference velocity
+     * @param targetPos target position
+     * @param referenceVelocity reference velocity
+     * @param referenceAcceleration reference acceleration
+     * @return feedforward output
+     */
+    public double calculate(double targetPos, double referenceVelocity, double referenceAcceleration) {
+        return (kV * referenceVelocity) + (kA * referenceAcceleration) + (Math.signum(referenceVelocity) * kStatic) + calculatePositionTerm(targetPos);
+    }
+
+    /**
+     * Calculates the part of the output that depends only on position
+     * @param targetPos target position
+     * @return measured table output if set, otherwise cosine and gravity compensation
+     */
+    private double calculatePositionTerm(double targetPos) {
+        if (positionTable != null) {
+            return positionTable.get(targetPos);
+        }
+        return (cosineTable.cosDegrees(targetPos) * kCos) + kG;
+    }
+
+    /**
+     * Sets the table used for the cosine compensation
+     * @param cosineTable table for the cosine compensation
+     */
+    public void setCosineTable(CosineTable cosineTable) {
+        this.cosineTable = cosineTable;
+    }
+
+    /**
+     * Sets a measured position to output table in place of cosine and gravity compensation
+     * @param positionTable measured output needed to hold each position, null to use cosine and gravity compensation
+     */
+    public void setPositionTable(InterpolatingTable positionTable) {
+        this.positionTable = positionTable;
+    }
+
+    /**
+     * Gets the velocity proportional constant
+     * @return velocity proportional constant
+     */
+    public double getKV() {
+        return kV;
+    }
+
+    /**
+     * Gets the acceleration proportional constant
+     * @return acceleration proportional constant
+     */
+    public double getKA() {
+        return kA;
+    }
+
+    /**
+     * Gets the static friction constant
+     * @return static friction constant
+     */
+    public double getKStatic() {
+        return kStatic;
+    }
+
+    /**
+     * Gets the cosine compensation constant
+     * @return cosine compensation constant
+     */
+    public double getKCos() {
+        return kCos;
+    }
+
+    /**
+     * Gets the gravity compensation constant
+     * @return gravity compensation constant
+     */
+    public double getKG() {
+        return kG;
+    }
+
+    /**
+     * Gets the table used for the cosine compensation
+     * @return table for the cosine compensation
+     */
+    public CosineTable getCosineTable() {
+        return cosineTable;
+    }
+
+    /**
+     * Gets the measured position to output table
+     * @return measured position to output table, null if cosine and gravity compensation are used
+     */
+    public InterpolatingTable getPositionTable() {
+        return positionTable;
+    }
+}
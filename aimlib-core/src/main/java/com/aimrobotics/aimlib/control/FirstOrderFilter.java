@@ -0,0 +1,95 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * FirstOrderFilter class is a low pass filter set by a time constant instead of a per sample gain
+ * The gain is found from the change in time of each sample, so the cutoff stays the same when the loop rate changes
+ * The gain is only recomputed when the change in time changes
+ */
+public class FirstOrderFilter extends SignalFilter {
+
+    private final double timeConstant; // seconds for the output to cover 63% of a step
+    private double sampleDT; // change in time used when none is given
+
+    private double gainDT = -1; // change in time the gain was computed for
+    private double gain = 0; // share of the previous output kept each sample
+
+    private boolean hasStarted = false; // has a sample been taken
+    private double prevOutput = 0; // previous output of the filter
+
+    /**
+     * Constructor for FirstOrderFilter
+     * @param timeConstant seconds for the output to cover 63% of a step
+     * @param sampleDT change in time between samples used when none is given, such as in the batch filter
+     */
+    public FirstOrderFilter(double timeConstant, double sampleDT) {
+        if (timeConstant < 0) {
+            throw new IllegalArgumentException("Time constant must not be negative");
+        }
+        this.timeConstant = timeConstant;
+        setSampleDT(sampleDT);
+    }
+
+    /**
+     * Creates a FirstOrderFilter from a cutoff frequency
+     * @param cutoffHz frequency in hertz at which the signal is reduced by 3 dB
+     * @param sampleDT change in time between samples used when none is given
+     * @return first order filter with the matching time constant
+     */
+    public static FirstOrderFilter fromCutoff(double cutoffHz, double sampleDT) {
+        if (cutoffHz <= 0) {
+            throw new IllegalArgumentException("Cutoff must be positive");
+        }
+        return new FirstOrderFilter(1 / (2 * Math.PI * cutoffHz), sampleDT);
+    }
+
+    @Override
+    public double filter(double input) {
+        return filter(input, sampleDT);
+    }
+
+    /**
+     * Filters the next sample of the signal
+     * The first sample passes through unfiltered so the output does not rise from zero
+     * @param input next sample
+     * @param dt change in time since the last sample in seconds
+     * @return filtered sample
+     */
+    public double filter(double input, double dt) {
+        if (!hasStarted) {
+            hasStarted = true;
+            prevOutput = input;
+            return input;
+        }
+        if (dt != gainDT) {
+            gain = timeConstant == 0 ? 0 : Math.exp(-Math.max(dt, 0) / timeConstant);
+            gainDT = dt;
+        }
+        prevOutput = gain * prevOutput + (1 - gain) * input;
+        return prevOutput;
+    }
+
+    @Override
+    public void reset() {
+        hasStarted = false;
+        prevOutput = 0;
+    }
+
+    /**
+     * Sets the change in time used when none is given
+     * @param sampleDT change in time between samples in seconds
+     */
+    public void setSampleDT(double sampleDT) {
+        if (sampleDT <= 0) {
+            throw new IllegalArgumentException("Sample change in time must be positive");
+        }
+        this.sampleDT = sampleDT;
+    }
+
+    public double getTimeConstant() {
+        return timeConstant;
+    }
+
+    public double getSampleDT() {
+        return sampleDT;
+    }
+}
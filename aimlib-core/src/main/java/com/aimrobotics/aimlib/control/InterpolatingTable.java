@@ -0,0 +1,64 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * InterpolatingTable class maps an input to an output by linear interpolation between measured points
+ * Inputs outside the measured range return the output of the nearest end point
+ */
+public class InterpolatingTable {
+
+    private final double[] inputs; // measured inputs in increasing order
+    private final double[] outputs; // measured output at each input
+
+    /**
+     * Constructor for InterpolatingTable
+     * @param inputs measured inputs in increasing order
+     * @param outputs measured output at each input
+     */
+    public InterpolatingTable(double[] inputs, double[] outputs) {
+        if (inputs.length != outputs.length || inputs.length == 0) {
+            throw new IllegalArgumentException("Table needs the same nonzero number of inputs and outputs");
+        }
+        for (int i = 1; i < inputs.length; i++) {
+            if (inputs[i] <= inputs[i - 1]) {
+                throw new IllegalArgumentException("Table inputs must be strictly increasing");
+            }
+        }
+        this.inputs = inputs.clone();
+        this.outputs = outputs.clone();
+    }
+
+    /**
+     * Gets the output at an input
+     * @param input input to look up
+     * @return interpolated output
+     */
+    public double get(double input) {
+        int last = inputs.length - 1;
+        if (input <= inputs[0]) {
+            return outputs[0];
+        }
+        if (input >= inputs[last]) {
+            return outputs[last];
+        }
+        int low = 0;
+        int high = last;
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            if (inputs[middle] <= input) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        double fraction = (input - inputs[low]) / (inputs[high] - inputs[low]);
+        return outputs[low] + (outputs[high] - outputs[low]) * fraction;
+    }
+
+    /**
+     * Gets the number of measured points
+     * @return number of points
+     */
+    public int size() {
+        return inputs.length;
+    }
+}
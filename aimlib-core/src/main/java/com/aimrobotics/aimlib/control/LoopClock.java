@@ -0,0 +1,82 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * LoopClock class takes one timestamp per loop so that every controller in the loop shares the same dt
+ * Call tick once at the top of the loop, then pass getDT to the controllers
+ */
+public class LoopClock {
+
+    private final TimeSource timeSource; // source of the timestamps
+    private final double fixedDT; // dt reported every tick in fixed step mode, measured dt is used if not positive
+
+    private boolean hasStarted = false; // has the clock ticked
+    private long tickTime = 0; // timestamp of the last tick in nanoseconds
+    private double dt = 0; // change in time between the last two ticks in seconds
+
+    /**
+     * Constructor for LoopClock on real time
+     */
+    public LoopClock() {
+        this(new SystemTimeSource());
+    }
+
+    /**
+     * Constructor for LoopClock measuring dt from a time source
+     * @param timeSource source of the timestamps
+     */
+    public LoopClock(TimeSource timeSource) {
+        this(timeSource, 0);
+    }
+
+    /**
+     * Constructor for LoopClock
+     * @param timeSource source of the timestamps
+     * @param fixedDT dt reported every tick in seconds, 0 to measure dt from the time source
+     */
+    public LoopClock(TimeSource timeSource, double fixedDT) {
+        this.timeSource = timeSource;
+        this.fixedDT = fixedDT;
+    }
+
+    /**
+     * Takes the timestamp for this loop
+     * @return change in time since the last tick in seconds, 0 on the first tick unless in fixed step mode
+     */
+    public double tick() {
+        long now = timeSource.nanoTime();
+        if (fixedDT > 0) {
+            dt = fixedDT;
+        } else if (hasStarted) {
+            dt = (now - tickTime) / 1e9;
+        } else {
+            dt = 0;
+        }
+        tickTime = now;
+        hasStarted = true;
+        return dt;
+    }
+
+    /**
+     * Gets the change in time between the last two ticks
+     * @return change in time in seconds
+     */
+    public double getDT() {
+        return dt;
+    }
+
+    /**
+     * Gets the timestamp of the last tick
+     * @return timestamp in nanoseconds
+     */
+    public long getTickTime() {
+        return tickTime;
+    }
+
+    /**
+     * Gets the source of the timestamps
+     * @return source of the timestamps
+     */
+    public TimeSource getTimeSource() {
+        return timeSource;
+    }
+}
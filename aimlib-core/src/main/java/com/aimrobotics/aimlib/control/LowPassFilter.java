@@ -2,12 +2,13 @@ package com.aimrobotics.aimlib.control;
 
 /**
  * LowPassFilter class filters out high frequency noise from a signal
+ * The gain is applied per sample, so the cutoff moves with the loop rate. Use FirstOrderFilter for a cutoff set in time
  *
  * @Author Nate Schmelkin
  * Inspiration from ThermalEquilibrium
  */
 
-public class LowPassFilter {
+public class LowPassFilter extends SignalFilter {
 
     private final double gain; // gain of the filter
 
@@ -26,9 +27,23 @@ public class LowPassFilter {
      * @param input input signal
      * @return filtered signal
      */
+    @Override
     public double filter(double input) {
         double output = gain * prevOutput + (1 - gain) * input;
         prevOutput = output;
         return output;
     }
+
+    @Override
+    public void reset() {
+        prevOutput = 0;
+    }
+
+    /**
+     * Gets the gain of the filter
+     * @return gain of the filter
+     */
+    public double getGain() {
+        return gain;
+    }
 }
@@ -0,0 +1,58 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * ManualTimeSource class is a deterministic clock that only moves when it is advanced
+ * Used to run controllers on simulated time, faster than real time
+ */
+public class ManualTimeSource implements TimeSource {
+
+    private long time; // current time in nanoseconds
+
+    /**
+     * Constructor for ManualTimeSource starting at time zero
+     */
+    public ManualTimeSource() {
+        this(0);
+    }
+
+    /**
+     * Constructor for ManualTimeSource
+     * @param startTime starting time in nanoseconds
+     */
+    public ManualTimeSource(long startTime) {
+        this.time = startTime;
+    }
+
+    @Override
+    public long nanoTime() {
+        return time;
+    }
+
+    /**
+     * Advances the clock
+     * @param seconds seconds to advance by
+     */
+    public void advance(double seconds) {
+        advanceNanos((long) (seconds * 1e9));
+    }
+
+    /**
+     * Advances the clock
+     * @param nanos nanoseconds to advance by, must not be negative
+     */
+    public void advanceNanos(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Time can not move backwards");
+        }
+        time += nanos;
+    }
+
+    /**
+     * Sets the clock to a time, which may be earlier than the current time
+     * Used to start a replay or simulation over. Anything timing against the clock should be reset with it
+     * @param time time in nanoseconds
+     */
+    public void reset(long time) {
+        this.time = time;
+    }
+}
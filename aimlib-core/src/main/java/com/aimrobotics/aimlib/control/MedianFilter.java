@@ -0,0 +1,89 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * MedianFilter class outputs the median of the most recent samples to reject single sample spikes
+ * Keeps the window in arrival order and in sorted order, so each sample moves one value in the sorted copy
+ * Best for small windows, as each sample costs time in proportion to the window size
+ * NaN samples, such as from a dropped sensor read, are skipped and the last output is held
+ */
+public class MedianFilter extends SignalFilter {
+
+    private final double[] samples; // ring of the most recent samples in arrival order
+    private final double[] sorted; // the held samples in ascending order
+    private int index = 0; // slot the next sample is written to
+    private int count = 0; // number of samples held, up to the window size
+    private double lastOutput = Double.NaN; // median of the last sample that was not NaN
+
+    /**
+     * Constructor for MedianFilter
+     * @param windowSize number of samples the median is taken over, odd sizes give a middle sample
+     */
+    public MedianFilter(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be at least 1");
+        }
+        samples = new double[windowSize];
+        sorted = new double[windowSize];
+    }
+
+    @Override
+    public double filter(double input) {
+        if (Double.isNaN(input)) {
+            return lastOutput;
+        }
+        int position;
+        if (count == samples.length) {
+            position = indexOf(samples[index]);
+        } else {
+            position = count;
+            count++;
+        }
+        samples[index] = input;
+        index = (index + 1) % samples.length;
+
+        // slide the replaced slot to where the new sample belongs
+        while (position > 0 && sorted[position - 1] > input) {
+            sorted[position] = sorted[position - 1];
+            position--;
+        }
+        while (position < count - 1 && sorted[position + 1] < input) {
+            sorted[position] = sorted[position + 1];
+            position++;
+        }
+        sorted[position] = input;
+
+        int middle = count / 2;
+        lastOutput = (count & 1) == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+        return lastOutput;
+    }
+
+    /**
+     * Finds a held sample in the sorted copy
+     * @param value sample to find
+     * @return index of the sample in the sorted copy
+     */
+    private int indexOf(double value) {
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public void reset() {
+        index = 0;
+        count = 0;
+        lastOutput = Double.NaN;
+    }
+
+    public int getWindowSize() {
+        return samples.length;
+    }
+}
@@ -0,0 +1,281 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * MotionProfile class plans a move to a goal once and then samples position, velocity and acceleration every loop
+ * The plan is stored as at most seven phases of constant jerk, so sampling is constant time and does not allocate
+ * Use TrapezoidalProfile or SCurveProfile to choose the shape of the profile
+ */
+public class MotionProfile {
+
+    private static final int MAX_PHASES = 7; // two velocity changes of up to three phases each plus a cruise
+    private static final int SEARCH_ITERATIONS = 60; // bisection steps used to find the peak velocity
+
+    private final double maxVelocity; // maximum velocity of the profile
+    private final double maxAcceleration; // maximum acceleration of the profile
+    private final double maxJerk; // maximum jerk of the profile, infinite for a trapezoidal profile
+
+    private final double[] phaseStartTime = new double[MAX_PHASES]; // time each phase starts
+    private final double[] phasePosition = new double[MAX_PHASES]; // position at the start of each phase
+    private final double[] phaseVelocity = new double[MAX_PHASES]; // velocity at the start of each phase
+    private final double[] phaseAcceleration = new double[MAX_PHASES]; // acceleration at the start of each phase
+    private final double[] phaseJerk = new double[MAX_PHASES]; // jerk during each phase
+    private int phaseCount = 0; // number of phases in the plan
+
+    private double startPosition = 0; // position the plan starts from
+    private double goal = 0; // position the plan ends at
+    private double duration = 0; // total time of the plan
+
+    // state of the plan while phases are appended
+    private double planTime;
+    private double planPosition;
+    private double planVelocity;
+
+    /**
+     * Constructor for MotionProfile
+     * @param maxVelocity maximum velocity of the profile
+     * @param maxAcceleration maximum acceleration of the profile
+     * @param maxJerk maximum jerk of the profile, Double.POSITIVE_INFINITY for a trapezoidal profile
+     */
+    protected MotionProfile(double maxVelocity, double maxAcceleration, double maxJerk) {
+        if (maxVelocity <= 0 || maxAcceleration <= 0 || maxJerk <= 0) {
+            throw new IllegalArgumentException("Motion profile constraints must be positive");
+        }
+        this.maxVelocity = maxVelocity;
+        this.maxAcceleration = maxAcceleration;
+        this.maxJerk = maxJerk;
+    }
+
+    /**
+     * Plans a move from rest
+     * @param start starting position
+     * @param goal goal position
+     */
+    public void plan(double start, double goal) {
+        plan(start, 0, goal);
+    }
+
+    /**
+     * Re-plans a move from the current state of a moving system
+     * The acceleration of the current state is not carried over, the new plan starts at zero acceleration
+     * @param current current state of the system, usually the last sample of the previous plan
+     * @param goal goal position
+     */
+    public void plan(MotionState current, double goal) {
+        plan(current.getPosition(), current.getVelocity(), goal);
+    }
+
+    /**
+     * Plans a move from a starting position and velocity
+     * Starting velocities beyond the maximum velocity are clamped to the maximum velocity
+     * @param start starting position
+     * @param startVelocity starting velocity
+     * @param goal goal position
+     */
+    public void plan(double start, double startVelocity, double goal) {
+        this.startPosition = start;
+        this.goal = goal;
+        double v0 = Math.max(-maxVelocity, Math.min(maxVelocity, startVelocity));
+        double distance = goal - start;
+
+        // the peak velocity is searched on the side where displacement grows with the peak velocity
+        double peakVelocity;
+        double cruiseVelocity;
+        if (distance >= displacement(v0, 0)) {
+            double low = Math.max(v0, 0);
+            peakVelocity = findPeakVelocity(v0, distance, low, maxVelocity);
+            cruiseVelocity = maxVelocity;
+        } else {
+            double high = Math.min(v0, 0);
+            peakVelocity = findPeakVelocity(v0, distance, -maxVelocity, high);
+            cruiseVelocity = -maxVelocity;
+        }
+        double cruiseTime = 0;
+        if (peakVelocity == cruiseVelocity) {
+            cruiseTime = Math.max(0, (distance - displacement(v0, peakVelocity)) / cruiseVelocity);
+        }
+
+        phaseCount = 0;
+        planTime = 0;
+        planPosition = start;
+        planVelocity = v0;
+        appendVelocityChange(peakVelocity);
+        if (cruiseTime > 0) {
+            appendPhase(0, 0, cruiseTime);
+        }
+        appendVelocityChange(0);
+        duration = planTime;
+    }
+
+    /**
+     * Samples the profile
+     * @param t time since the start of the plan in seconds
+     * @param out state to write the sample into
+     */
+    public void sample(double t, MotionState out) {
+        if (phaseCount == 0 || t >= duration) {
+            out.set(goal, 0, 0);
+            return;
+        }
+        if (t <= 0) {
+            out.set(phasePosition[0], phaseVelocity[0], phaseAcceleration[0]);
+            return;
+        }
+        int phase = 0;
+        while (phase < phaseCount - 1 && t >= phaseStartTime[phase + 1]) {
+            phase++;
+        }
+        double tau = t - phaseStartTime[phase];
+        double jerk = phaseJerk[phase];
+        double a0 = phaseAcceleration[phase];
+        double v0 = phaseVelocity[phase];
+        double position = phasePosition[phase] + v0 * tau + a0 * tau * tau / 2 + jerk * tau * tau * tau / 6;
+        double velocity = v0 + a0 * tau + jerk * tau * tau / 2;
+        double acceleration = a0 + jerk * tau;
+        out.set(position, velocity, acceleration);
+    }
+
+    /**
+     * Checks if the profile has reached the goal
+     * @param t time since the start of the plan in seconds
+     * @return true if the plan is complete
+     */
+    public boolean isFinished(double t) {
+        return t >= duration;
+    }
+
+    /**
+     * Gets the total time of the plan
+     * @return total time in seconds
+     */
+    public double getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the position the plan starts from
+     * @return starting position
+     */
+    public double getStartPosition() {
+        return startPosition;
+    }
+
+    /**
+     * Gets the position the plan ends at
+     * @return goal position
+     */
+    public double getGoal() {
+        return goal;
+    }
+
+    public double getMaxVelocity() {
+        return maxVelocity;
+    }
+
+    public double getMaxAcceleration() {
+        return maxAcceleration;
+    }
+
+    public double getMaxJerk() {
+        return maxJerk;
+    }
+
+    /**
+     * Finds the peak velocity whose velocity change and stop cover the distance
+     * Displacement grows with the peak velocity inside the bounds, so a bisection converges
+     * @param v0 starting velocity
+     * @param distance distance to cover
+     * @param low lowest peak velocity to search
+     * @param high highest peak velocity to search
+     * @return peak velocity, or the bound beyond which a cruise is needed
+     */
+    private double findPeakVelocity(double v0, double distance, double low, double high) {
+        if (distance >= displacement(v0, high)) {
+            return high;
+        }
+        if (distance <= displacement(v0, low)) {
+            return low;
+        }
+        for (int i = 0; i < SEARCH_ITERATIONS; i++) {
+            double middle = (low + high) / 2;
+            if (displacement(v0, middle) < distance) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return (low + high) / 2;
+    }
+
+    /**
+     * Calculates the displacement of changing from the starting velocity to the peak velocity and then stopping
+     * @param v0 starting velocity
+     * @param peakVelocity peak velocity
+     * @return displacement without a cruise
+     */
+    private double displacement(double v0, double peakVelocity) {
+        return (v0 + peakVelocity) / 2 * velocityChangeTime(Math.abs(peakVelocity - v0))
+                + peakVelocity / 2 * velocityChangeTime(Math.abs(peakVelocity));
+    }
+
+    /**
+     * Calculates the time to change velocity by an amount, starting and ending at zero acceleration
+     * @param change magnitude of the velocity change
+     * @return time of the velocity change
+     */
+    private double velocityChangeTime(double change) {
+        if (Double.isInfinite(maxJerk)) {
+            return change / maxAcceleration;
+        }
+        if (change >= maxAcceleration * maxAcceleration / maxJerk) {
+            return change / maxAcceleration + maxAcceleration / maxJerk;
+        }
+        return 2 * Math.sqrt(change / maxJerk);
+    }
+
+    /**
+     * Appends the phases that change the planned velocity to a new velocity
+     * @param velocity velocity at the end of the change
+     */
+    private void appendVelocityChange(double velocity) {
+        double change = velocity - planVelocity;
+        if (change == 0) {
+            return;
+        }
+        double sign = Math.signum(change);
+        double magnitude = Math.abs(change);
+        if (Double.isInfinite(maxJerk)) {
+            appendPhase(sign * maxAcceleration, 0, magnitude / maxAcceleration);
+        } else if (magnitude >= maxAcceleration * maxAcceleration / maxJerk) {
+            double jerkTime = maxAcceleration / maxJerk;
+            double constantTime = magnitude / maxAcceleration - jerkTime;
+            appendPhase(0, sign * maxJerk, jerkTime);
+            if (constantTime > 0) {
+                appendPhase(sign * maxAcceleration, 0, constantTime);
+            }
+            appendPhase(sign * maxAcceleration, -sign * maxJerk, jerkTime);
+        } else {
+            double jerkTime = Math.sqrt(magnitude / maxJerk);
+            appendPhase(0, sign * maxJerk, jerkTime);
+            appendPhase(sign * maxJerk * jerkTime, -sign * maxJerk, jerkTime);
+        }
+        planVelocity = velocity;
+    }
+
+    /**
+     * Appends a phase of constant jerk to the plan and advances the planned state to its end
+     * @param acceleration acceleration at the start of the phase
+     * @param jerk jerk during the phase
+     * @param time length of the phase
+     */
+    private void appendPhase(double acceleration, double jerk, double time) {
+        phaseStartTime[phaseCount] = planTime;
+        phasePosition[phaseCount] = planPosition;
+        phaseVelocity[phaseCount] = planVelocity;
+        phaseAcceleration[phaseCount] = acceleration;
+        phaseJerk[phaseCount] = jerk;
+        phaseCount++;
+        planPosition += planVelocity * time + acceleration * time * time / 2 + jerk * time * time * time / 6;
+        planVelocity += acceleration * time + jerk * time * time / 2;
+        planTime += time;
+    }
+}
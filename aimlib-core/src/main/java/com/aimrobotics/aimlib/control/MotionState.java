@@ -0,0 +1,53 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * MotionState class holds a position, velocity and acceleration sampled from a motion profile
+ * Mutable so that one instance can be reused every loop
+ */
+public class MotionState {
+
+    private double position; // position of the system
+    private double velocity; // velocity of the system
+    private double acceleration; // acceleration of the system
+
+    /**
+     * Constructor for MotionState at rest at zero
+     */
+    public MotionState() {
+        this(0, 0, 0);
+    }
+
+    /**
+     * Constructor for MotionState
+     * @param position position of the system
+     * @param velocity velocity of the system
+     * @param acceleration acceleration of the system
+     */
+    public MotionState(double position, double velocity, double acceleration) {
+        set(position, velocity, acceleration);
+    }
+
+    /**
+     * Sets every value of the state
+     * @param position position of the system
+     * @param velocity velocity of the system
+     * @param acceleration acceleration of the system
+     */
+    public void set(double position, double velocity, double acceleration) {
+        this.position = position;
+        this.velocity = velocity;
+        this.acceleration = acceleration;
+    }
+
+    public double getPosition() {
+        return position;
+    }
+
+    public double getVelocity() {
+        return velocity;
+    }
+
+    public double getAcceleration() {
+        return acceleration;
+    }
+}
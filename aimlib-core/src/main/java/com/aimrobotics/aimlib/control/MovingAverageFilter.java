@@ -0,0 +1,56 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * MovingAverageFilter class averages the most recent samples held in a ring buffer
+ * Keeps a running sum so each sample costs the same for any window size, and re-sums the window each time the ring wraps
+ * so rounding error in the running sum cannot build up
+ */
+public class MovingAverageFilter extends SignalFilter {
+
+    private final double[] samples; // ring of the most recent samples
+    private int index = 0; // slot the next sample is written to
+    private int count = 0; // number of samples held, up to the window size
+    private double sum = 0; // running sum of the held samples
+
+    /**
+     * Constructor for MovingAverageFilter
+     * @param windowSize number of samples averaged
+     */
+    public MovingAverageFilter(int windowSize) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be at least 1");
+        }
+        samples = new double[windowSize];
+    }
+
+    @Override
+    public double filter(double input) {
+        if (count == samples.length) {
+            sum -= samples[index];
+        } else {
+            count++;
+        }
+        samples[index] = input;
+        sum += input;
+        index++;
+        if (index == samples.length) {
+            index = 0;
+            sum = 0;
+            for (int i = 0; i < count; i++) {
+                sum += samples[i];
+            }
+        }
+        return sum / count;
+    }
+
+    @Override
+    public void reset() {
+        index = 0;
+        count = 0;
+        sum = 0;
+    }
+
+    public int getWindowSize() {
+        return samples.length;
+    }
+}
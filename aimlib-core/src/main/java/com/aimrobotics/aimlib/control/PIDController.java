@@ -0,0 +1,276 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * PIDController class is a framework used for PID control on a system
+ *
+ * @Author Nate Schmelkin
+ * Inspiration from 479 StuyFusion and ThermalEquilibrium
+ */
+
+public class PIDController {
+
+    private final TimeSource timeSource; // time source for calculating change in time
+    private double fixedDT = 0; // change in time used every call in fixed step mode, measured if not positive
+
+    private boolean hasStarted = false; // has the timer started
+    private long previousTime = 0; // time of the previous call in nanoseconds
+    private boolean hasPreviousError = false; // has an error been recorded
+    private double integralSum = 0; // sum of the integral
+    private double previousError = 0; // previous error
+
+    private double lastProportionalTerm = 0; // proportional part of the last output
+    private double lastIntegralTerm = 0; // integral part of the last output
+    private double lastDerivativeTerm = 0; // derivative part of the last output
+
+    private final double kP; // proportional constant
+    private final double kI; // integral constant
+    private final double kD; // derivative constant
+    private LowPassFilter lowPassFilter; // low pass filter for the derivative
+    private double integralSumMax; // maximum value of the integral sum
+
+    /**
+     * Constructor for PIDController
+     * @param kP proportional constant
+     * @param kI integral constant
+     * @param kD derivative constant
+     * @param derivativeLowPassGain gain for the low pass filter on the derivative
+     * @param integralSumMax maximum value of the integral sum
+     */
+    public PIDController(double kP, double kI, double kD, double derivativeLowPassGain, double integralSumMax) {
+        this(kP, kI, kD, derivativeLowPassGain, integralSumMax, new SystemTimeSource());
+    }
+
+    /**
+     * Constructor for PIDController with a custom time source
+     * @param kP proportional constant
+     * @param kI integral constant
+     * @param kD derivative constant
+     * @param derivativeLowPassGain gain for the low pass filter on the derivative
+     * @param integralSumMax maximum value of the integral sum
+     * @param timeSource time source for calculating change in time
+     */
+    public PIDController(double kP, double kI, double kD, double derivativeLowPassGain, double integralSumMax, TimeSource timeSource) {
+        this.timeSource = timeSource;
+        this.kP = kP;
+        this.kI = kI;
+        this.kD = kD;
+        this.lowPassFilter = new LowPassFilter(derivativeLowPassGain);
+        this.integralSumMax = integralSumMax;
+    }
+
+    /**
+     * Calculates the output of the PID controller
+     * @param target target value of the PID controller
+     * @param current current value of the system
+     * @return output of the PID controller
+     */
+    public double calculate(double target, double current) {
+        return calculate(target, current, getDT());
+    }
+
+    /**
+     * Calculates the output of the PID controller with a change in time measured elsewhere
+     * Use with a LoopClock so that every controller in the loop shares one timestamp
+     * @param target target value of the PID controller
+     * @param current current value of the system
+     * @param dt change in time since the last call in seconds
+     * @return output of the PID controller
+     */
+    public double calculate(double target, double current, double dt) {
+        double error = target - current;
+        double derivative = 0;
+        if (dt > 0) {
+            if (hasPreviousError) {
+                derivative = calculateDerivative(error, dt);
+            }
+            integrate(error, dt);
+        }
+        previousError = error;
+        hasPreviousError = true;
+        lastProportionalTerm = kP * error;
+        lastIntegralTerm = kI * integralSum;
+        lastDerivativeTerm = kD * derivative;
+        return lastProportionalTerm + lastIntegralTerm + lastDerivativeTerm;
+    }
+
+    /**
+     * Calculates the output of the PID controller with the rate of change of the error measured elsewhere
+     * The derivative term uses the given rate instead of differencing and filtering the error, such as from a StateEstimator
+     * @param target target value of the PID controller
+     * @param current current value of the system
+     * @param errorRate rate of change of the error, reference velocity minus the estimated velocity
+     * @param dt change in time since the last call in seconds
+     * @return output of the PID controller
+     */
+    public double calculateWithErrorRate(double target, double current, double errorRate, double dt) {
+        double error = target - current;
+        if (dt > 0) {
+            integrate(error, dt);
+        }
+        previousError = error;
+        hasPreviousError = true;
+        lastProportionalTerm = kP * error;
+        lastIntegralTerm = kI * integralSum;
+        lastDerivativeTerm = kD * errorRate;
+        return lastProportionalTerm + lastIntegralTerm + lastDerivativeTerm;
+    }
+
+    /**
+     * Gets the change in time since the last call
+     * Returns 0 on the first call, when there is no previous call to measure from
+     * @return change in time in seconds
+     */
+    public double getDT() {
+        if (fixedDT > 0) {
+            return fixedDT;
+        }
+        long now = timeSource.nanoTime();
+        if (!hasStarted) {
+            previousTime = now;
+            hasStarted = true;
+            return 0;
+        }
+        double dt = (now - previousTime) / 1e9;
+        previousTime = now;
+        return dt;
+    }
+
+    /**
+     * Sets a fixed change in time used for every call instead of the measured change in time
+     * @param fixedDT change in time in seconds, 0 to measure the change in time
+     */
+    public void setFixedDT(double fixedDT) {
+        this.fixedDT = fixedDT;
+    }
+
+    /**
+     * Clears the integral sum, previous error, derivative filter and timer so the next call starts fresh
+     */
+    public void reset() {
+        hasStarted = false;
+        lowPassFilter.reset();
+        hasPreviousError = false;
+        integralSum = 0;
+        previousError = 0;
+        lastProportionalTerm = 0;
+        lastIntegralTerm = 0;
+        lastDerivativeTerm = 0;
+    }
+
+    /**
+     * Gets the error of the last call
+     * @return target minus current value
+     */
+    public double getLastError() {
+        return previousError;
+    }
+
+    /**
+     * Gets the proportional part of the last output
+     * @return proportional term
+     */
+    public double getLastProportionalTerm() {
+        return lastProportionalTerm;
+    }
+
+    /**
+     * Gets the integral part of the last output
+     * @return integral term
+     */
+    public double getLastIntegralTerm() {
+        return lastIntegralTerm;
+    }
+
+    /**
+     * Gets the derivative part of the last output
+     * @return derivative term
+     */
+    public double getLastDerivativeTerm() {
+        return lastDerivativeTerm;
+    }
+
+
+    /**
+     * Gets the proportional constant
+     * @return proportional constant
+     */
+    public double getKP() {
+        return kP;
+    }
+
+    /**
+     * Gets the integral constant
+     * @return integral constant
+     */
+    public double getKI() {
+        return kI;
+    }
+
+    /**
+     * Gets the derivative constant
+     * @return derivative constant
+     */
+    public double getKD() {
+        return kD;
+    }
+
+    /**
+     * Gets the gain of the low pass filter on the derivative
+     * @return gain of the derivative low pass filter
+     */
+    public double getDerivativeLowPassGain() {
+        return lowPassFilter.getGain();
+    }
+
+    /**
+     * Gets the maximum value of the integral sum
+     * @return maximum value of the integral sum
+     */
+    public double getIntegralSumMax() {
+        return integralSumMax;
+    }
+
+    /**
+     * Calculates the derivative of the error then filters the result
+     * @param error error of the system
+     * @param dt change in time
+     * @return filtered derivative of the error
+     */
+    private double calculateDerivative(double error, double dt) {
+        double derivative = (error - getPreviousError()) / dt;
+        derivative = lowPassFilter.filter(derivative);
+        return derivative;
+    }
+
+    /**
+     * Integrates the error and caps the sum. Resets the sum if the error crosses zero
+     * @param error error of the system
+     * @param dt change in time
+     */
+    private void integrate(double error, double dt) {
+        if (hasErrorCrossedZero(error)) {
+            integralSum = 0;
+        }
+        integralSum += error * dt;
+        if (Math.abs(integralSum) > integralSumMax) {
+            integralSum = Math.signum(integralSum) * integralSumMax;
+        }
+    }
+
+    /**
+     * Checks if the error has crossed zero
+     * @param error error of the system
+     * @return true if the error has crossed zero in the last loop
+     */
+    private boolean hasErrorCrossedZero(double error) {
+        return (error > 0 && getPreviousError() < 0) || (error < 0 && getPreviousError() > 0);
+    }
+
+    /**
+     * Gets the previous error
+     * @return previous error
+     */
+    private double getPreviousError() {
+        return previousError;
+    }
+}
@@ -0,0 +1,151 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * RecursiveLeastSquares class fits y = theta . x one sample at a time, keeping only the parameters and their covariance
+ * Alongside the fit it keeps the sums needed to score the final parameters against every sample, so no samples are stored
+ * An optional forgetting factor below 1 weights recent samples more, and then the score covers the same weighting
+ */
+public class RecursiveLeastSquares {
+
+    public static final double DEFAULT_INITIAL_COVARIANCE = 1e6; // initial covariance, large for an uninformed start
+
+    private final int size; // number of parameters
+    private final double forgettingFactor; // weight kept by older samples each update, 1 for none forgotten
+    private final double[] theta; // fitted parameters
+    private final double[][] covariance; // covariance of the parameters
+    private final double[] gain; // gain of the current update, reused
+    private final double[] px; // covariance times the current sample, reused
+
+    private final double[][] xx; // weighted sum of x x^T
+    private final double[] xy; // weighted sum of x y
+    private double yy = 0; // weighted sum of y^2
+    private double ySum = 0; // weighted sum of y
+    private double weight = 0; // weighted number of samples
+    private long count = 0; // number of samples
+
+    /**
+     * Constructor for RecursiveLeastSquares with no forgetting
+     * @param size number of parameters
+     */
+    public RecursiveLeastSquares(int size) {
+        this(size, 1, DEFAULT_INITIAL_COVARIANCE);
+    }
+
+    /**
+     * Constructor for RecursiveLeastSquares
+     * @param size number of parameters
+     * @param forgettingFactor weight kept by older samples each update, between 0 and 1
+     * @param initialCovariance initial covariance of each parameter
+     */
+    public RecursiveLeastSquares(int size, double forgettingFactor, double initialCovariance) {
+        if (forgettingFactor <= 0 || forgettingFactor > 1) {
+            throw new IllegalArgumentException("Forgetting factor must be above 0 and at most 1");
+        }
+        this.size = size;
+        this.forgettingFactor = forgettingFactor;
+        this.theta = new double[size];
+        this.covariance = new double[size][size];
+        this.gain = new double[size];
+        this.px = new double[size];
+        this.xx = new double[size][size];
+        this.xy = new double[size];
+        for (int i = 0; i < size; i++) {
+            covariance[i][i] = initialCovariance;
+        }
+    }
+
+    /**
+     * Adds a sample and updates the parameters
+     * @param x features of the sample, length size
+     * @param y measured output of the sample
+     */
+    public void update(double[] x, double y) {
+        double denominator = forgettingFactor;
+        for (int i = 0; i < size; i++) {
+            double sum = 0;
+            for (int j = 0; j < size; j++) {
+                sum += covariance[i][j] * x[j];
+            }
+            px[i] = sum;
+            denominator += x[i] * sum;
+        }
+        double error = y;
+        for (int i = 0; i < size; i++) {
+            gain[i] = px[i] / denominator;
+            error -= theta[i] * x[i];
+        }
+        for (int i = 0; i < size; i++) {
+            theta[i] += gain[i] * error;
+            for (int j = 0; j < size; j++) {
+                covariance[i][j] = (covariance[i][j] - gain[i] * px[j]) / forgettingFactor;
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                xx[i][j] = forgettingFactor * xx[i][j] + x[i] * x[j];
+            }
+            xy[i] = forgettingFactor * xy[i] + x[i] * y;
+        }
+        yy = forgettingFactor * yy + y * y;
+        ySum = forgettingFactor * ySum + y;
+        weight = forgettingFactor * weight + 1;
+        count++;
+    }
+
+    /**
+     * Gets a fitted parameter
+     * @param index index of the parameter
+     * @return fitted value
+     */
+    public double getParameter(int index) {
+        return theta[index];
+    }
+
+    /**
+     * Gets the weighted sum of squared residuals of the current parameters over every sample
+     * @return sum of squared residuals
+     */
+    public double getResidualSumOfSquares() {
+        double sse = yy;
+        for (int i = 0; i < size; i++) {
+            sse -= 2 * theta[i] * xy[i];
+            for (int j = 0; j < size; j++) {
+                sse += theta[i] * xx[i][j] * theta[j];
+            }
+        }
+        return Math.max(sse, 0);
+    }
+
+    /**
+     * Gets the share of the output variance explained by the fit
+     * @return coefficient of determination, 1 for a perfect fit
+     */
+    public double getRSquared() {
+        if (weight == 0) {
+            return 0;
+        }
+        double total = yy - ySum * ySum / weight;
+        return total > 0 ? 1 - getResidualSumOfSquares() / total : 0;
+    }
+
+    /**
+     * Gets the root mean squared residual of the fit
+     * @return root mean squared error in output units
+     */
+    public double getRMSE() {
+        return weight > 0 ? Math.sqrt(getResidualSumOfSquares() / weight) : 0;
+    }
+
+    /**
+     * Gets the number of samples added
+     * @return number of samples
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public int size() {
+        return size;
+    }
+}
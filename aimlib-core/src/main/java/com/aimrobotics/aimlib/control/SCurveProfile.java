@@ -0,0 +1,18 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * SCurveProfile class is a motion profile limited by velocity, acceleration and jerk
+ * Acceleration ramps instead of stepping, which is gentler on linkages and belts
+ */
+public class SCurveProfile extends MotionProfile {
+
+    /**
+     * Constructor for SCurveProfile
+     * @param maxVelocity maximum velocity of the profile
+     * @param maxAcceleration maximum acceleration of the profile
+     * @param maxJerk maximum jerk of the profile
+     */
+    public SCurveProfile(double maxVelocity, double maxAcceleration, double maxJerk) {
+        super(maxVelocity, maxAcceleration, maxJerk);
+    }
+}
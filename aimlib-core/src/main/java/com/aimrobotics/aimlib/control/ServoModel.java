@@ -0,0 +1,150 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * ServoModel class estimates where a position servo is from the history of commanded positions
+ * The servo is modeled as moving toward the command at a constant speed, slowed by a load factor per direction
+ * A servo only reports the last command, so this is how sequences know when a move is done without a worst case wait
+ */
+public class ServoModel {
+
+    public static final double DEFAULT_SECONDS_PER_UNIT = 1.25; // about a 0.25 sec / 60 degree servo over a 300 degree range
+    public static final double DEFAULT_TOLERANCE = 0.01; // distance from the command counted as arrived
+
+    private final double secondsPerUnit; // seconds to travel from position 0 to 1 with no load
+    private double increasingLoadFactor = 1; // slowdown while the position increases, 1 for no load
+    private double decreasingLoadFactor = 1; // slowdown while the position decreases, 1 for no load
+    private double tolerance = DEFAULT_TOLERANCE; // distance from the command counted as arrived
+
+    private double estimatedPosition = 0; // modeled position of the servo
+    private double commandedPosition = 0; // last commanded position
+    private long lastUpdateTime = 0; // timestamp of the last update in nanoseconds
+    private boolean hasStarted = false; // has a command been given
+
+    /**
+     * Constructor for ServoModel with the default speed
+     */
+    public ServoModel() {
+        this(DEFAULT_SECONDS_PER_UNIT);
+    }
+
+    /**
+     * Constructor for ServoModel
+     * @param secondsPerUnit seconds to travel from position 0 to 1 with no load
+     */
+    public ServoModel(double secondsPerUnit) {
+        if (secondsPerUnit < 0) {
+            throw new IllegalArgumentException("Seconds per unit must not be negative");
+        }
+        this.secondsPerUnit = secondsPerUnit;
+    }
+
+    /**
+     * Advances the model to a time and records the command sent at that time
+     * The first update assumes the servo starts at the command, call reset first if the start position is known
+     * @param commandedPosition position sent to the servo
+     * @param time timestamp in nanoseconds
+     */
+    public void update(double commandedPosition, long time) {
+        if (!hasStarted) {
+            estimatedPosition = commandedPosition;
+            hasStarted = true;
+        } else {
+            advance(time);
+        }
+        this.commandedPosition = commandedPosition;
+        lastUpdateTime = time;
+    }
+
+    /**
+     * Moves the estimate toward the command over the time since the last update
+     * @param time timestamp in nanoseconds
+     */
+    private void advance(long time) {
+        double dt = (time - lastUpdateTime) / 1e9;
+        double error = commandedPosition - estimatedPosition;
+        if (dt <= 0 || error == 0) {
+            return;
+        }
+        double secondsPerUnitLoaded = secondsPerUnit * (error > 0 ? increasingLoadFactor : decreasingLoadFactor);
+        double travel = secondsPerUnitLoaded > 0 ? dt / secondsPerUnitLoaded : Double.POSITIVE_INFINITY;
+        if (travel >= Math.abs(error)) {
+            estimatedPosition = commandedPosition;
+        } else {
+            estimatedPosition += Math.copySign(travel, error);
+        }
+    }
+
+    /**
+     * Sets the known position of the servo and clears the history
+     * @param position position the servo is at
+     * @param time timestamp in nanoseconds
+     */
+    public void reset(double position, long time) {
+        estimatedPosition = position;
+        commandedPosition = position;
+        lastUpdateTime = time;
+        hasStarted = true;
+    }
+
+    /**
+     * Gets the modeled position of the servo at the last update
+     * @return estimated position
+     */
+    public double getEstimatedPosition() {
+        return estimatedPosition;
+    }
+
+    /**
+     * Gets the last commanded position
+     * @return commanded position
+     */
+    public double getCommandedPosition() {
+        return commandedPosition;
+    }
+
+    /**
+     * Checks if the servo is modeled to be within tolerance of the command
+     * @return true if the servo has arrived
+     */
+    public boolean isAtTarget() {
+        return Math.abs(commandedPosition - estimatedPosition) <= tolerance;
+    }
+
+    /**
+     * Estimates the time left until the servo reaches the command, as of the last update
+     * @return seconds until arrival, 0 once arrived
+     */
+    public double getTimeToArrival() {
+        double error = commandedPosition - estimatedPosition;
+        return Math.abs(error) * secondsPerUnit * (error > 0 ? increasingLoadFactor : decreasingLoadFactor);
+    }
+
+    /**
+     * Sets how much a load slows the servo in each direction, for example gravity on an arm
+     * @param increasingLoadFactor slowdown while the position increases, 1 for no load
+     * @param decreasingLoadFactor slowdown while the position decreases, 1 for no load
+     */
+    public void setLoadFactors(double increasingLoadFactor, double decreasingLoadFactor) {
+        if (increasingLoadFactor <= 0 || decreasingLoadFactor <= 0) {
+            throw new IllegalArgumentException("Load factors must be positive");
+        }
+        this.increasingLoadFactor = increasingLoadFactor;
+        this.decreasingLoadFactor = decreasingLoadFactor;
+    }
+
+    /**
+     * Sets the distance from the command counted as arrived
+     * @param tolerance arrival tolerance in position units
+     */
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance;
+    }
+
+    public double getSecondsPerUnit() {
+        return secondsPerUnit;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+}
@@ -0,0 +1,38 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * SignalFilter class is the base of the filters that smooth a stream of samples one at a time
+ * Every filter also runs over an array of samples, for logged data or several channels filtered in turn
+ * Filters keep their state in fields set up on construction and do not allocate while filtering
+ * It is a class so LowPassFilter, which predates it, can share the batch method as a subclass without changing its API
+ */
+public abstract class SignalFilter {
+
+    /**
+     * Filters the next sample of the signal
+     * @param input next sample
+     * @return filtered sample
+     */
+    public abstract double filter(double input);
+
+    /**
+     * Clears the filter state so the next sample starts it fresh
+     */
+    public abstract void reset();
+
+    /**
+     * Filters a run of samples in order, continuing from the current filter state
+     * The input and output may be the same array
+     * @param in samples to filter
+     * @param out array to write the filtered samples to
+     * @param n number of samples to filter
+     */
+    public void filter(double[] in, double[] out, int n) {
+        if (n > in.length || n > out.length) {
+            throw new IllegalArgumentException("Arrays are shorter than the number of samples");
+        }
+        for (int i = 0; i < n; i++) {
+            out[i] = filter(in[i]);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * SimpleControlSystem class implements a simple control system with PID, feedforward, and low pass filter
+ * A StateEstimator can be used in place of the low pass filter. The PID then controls on the estimated position,
+ * takes its derivative term from the reference velocity minus the estimated velocity, and the estimator predicts with the
+ * acceleration share of the last output: the PID output plus kA times the reference acceleration. The rest of the feedforward
+ * only holds speed or fights gravity and friction, so it is left out of the prediction
+ *
+ * @Author Nate Schmelkin
+ */
+public class SimpleControlSystem {
+
+    private final PIDController pidController; // PID controller for the system
+    private final FeedforwardController feedforwardController; // feedforward controller for the system
+    private final LowPassFilter lowPassFilter; // low pass filter for the system, null when a state estimator is used
+    private final StateEstimator stateEstimator; // state estimator for the system, null when a low pass filter is used
+
+    private double target; // target value of the system
+
+    private double lastState = 0; // filtered state of the last update
+    private double lastFeedforward = 0; // feedforward part of the last output
+    private double lastOutput = 0; // output of the last update
+    private double lastAccelerationOutput = 0; // part of the last output that accelerates the system, the estimator's control input
+
+    /**
+     * Constructor for SimpleControlSystem
+     * @param pidController PID controller for the system
+     * @param feedforwardController feedforward controller for the system
+     * @param lowPassFilter low pass filter for the system
+     */
+    public SimpleControlSystem(PIDController pidController, FeedforwardController feedforwardController, LowPassFilter lowPassFilter) {
+        this.pidController = pidController;
+        this.feedforwardController = feedforwardController;
+        this.lowPassFilter = lowPassFilter;
+        this.stateEstimator = null;
+    }
+
+    /**
+     * Constructor for SimpleControlSystem with a state estimator in place of the low pass filter
+     * @param pidController PID controller for the system
+     * @param feedforwardController feedforward controller for the system
+     * @param stateEstimator state estimator for the system
+     */
+    public SimpleControlSystem(PIDController pidController, FeedforwardController feedforwardController, StateEstimator stateEstimator) {
+        this.pidController = pidController;
+        this.feedforwardController = feedforwardController;
+        this.lowPassFilter = null;
+        this.stateEstimator = stateEstimator;
+    }
+
+    /**
+     * Updates the control system exclusively with current state
+     * @param state current state/position/value of the system
+     * @return system output according to state alone
+     */
+    public double update(double state) {
+        return update(state, 0, 0);
+    }
+
+    /**
+     * Updates the control system with current state and reference velocity
+     * @param state current state/position/value of the system
+     * @param referenceVelocity reference velocity of the system
+     * @return system output according to state and reference velocity
+     */
+    public double update(double state, double referenceVelocity) {
+        return update(state, referenceVelocity, 0);
+    }
+
+
+    /**
+     * Updates the control system with current state, reference velocity, and reference acceleration
+     * @param state current state/position/value of the system
+     * @param referenceVelocity reference velocity of the system
+     * @param referenceAcceleration reference acceleration of the system
+     * @return system output according to state, reference velocity, and reference acceleration
+     */
+    public double update(double state, double referenceVelocity, double referenceAcceleration) {
+        return update(state, referenceVelocity, referenceAcceleration, pidController.getDT());
+    }
+
+    /**
+     * Updates the control system with a change in time measured elsewhere
+     * Use with a LoopClock so that every control system in the loop shares one timestamp
+     * @param state current state/position/value of the system
+     * @param referenceVelocity reference velocity of the system
+     * @param referenceAcceleration reference acceleration of the system
+     * @param dt change in time since the last update in seconds
+     * @return system output according to state, reference velocity, and reference acceleration
+     */
+    public double update(double state, double referenceVelocity, double referenceAcceleration, double dt) {
+        double pidOutput;
+        if (stateEstimator != null) {
+            stateEstimator.update(state, lastAccelerationOutput, dt);
+            lastState = stateEstimator.getPosition();
+            pidOutput = pidController.calculateWithErrorRate(target, lastState, referenceVelocity - stateEstimator.getVelocity(), dt);
+        } else {
+            lastState = lowPassFilter.filter(state);
+            pidOutput = pidController.calculate(target, lastState, dt);
+        }
+        lastFeedforward = feedforwardController.calculate(target, referenceVelocity, referenceAcceleration);
+        lastOutput = pidOutput + lastFeedforward;
+        lastAccelerationOutput = pidOutput + feedforwardController.getKA() * referenceAcceleration;
+        return lastOutput;
+    }
+
+    /**
+     * Updates the control system from a motion profile sample
+     * The sampled position becomes the target and the sampled velocity and acceleration drive the feedforward
+     * @param state current state/position/value of the system
+     * @param reference motion profile sample for this loop
+     * @return system output according to state and the reference
+     */
+    public double update(double state, MotionState reference) {
+        setTarget(reference.getPosition());
+        return update(state, reference.getVelocity(), reference.getAcceleration());
+    }
+
+    /**
+     * Updates the control system from a motion profile sample with a change in time measured elsewhere
+     * @param state current state/position/value of the system
+     * @param reference motion profile sample for this loop
+     * @param dt change in time since the last update in seconds
+     * @return system output according to state and the reference
+     */
+    public double update(double state, MotionState reference, double dt) {
+        setTarget(reference.getPosition());
+        return update(state, reference.getVelocity(), reference.getAcceleration(), dt);
+    }
+
+    /**
+     * Sets the target value of the system
+     * @param target target value of the system
+     */
+    public void setTarget(double target) {
+        this.target = target;
+    }
+
+    /**
+     * Gets the target value of the system
+     * @return target value of the system
+     */
+    public double getTarget() {
+        return target;
+    }
+
+    /**
+     * Gets the filtered state the last update controlled on
+     * @return filtered state
+     */
+    public double getLastState() {
+        return lastState;
+    }
+
+    /**
+     * Gets the estimated velocity of the system
+     * @return estimated velocity, 0 when a low pass filter is used
+     */
+    public double getEstimatedVelocity() {
+        return stateEstimator != null ? stateEstimator.getVelocity() : 0;
+    }
+
+    /**
+     * Gets the feedforward part of the last output
+     * @return feedforward output
+     */
+    public double getLastFeedforward() {
+        return lastFeedforward;
+    }
+
+    /**
+     * Gets the output of the last update
+     * @return system output
+     */
+    public double getLastOutput() {
+        return lastOutput;
+    }
+
+    /**
+     * Gets the PID controller of the system
+     * @return PID controller of the system
+     */
+    public PIDController getPIDController() {
+        return pidController;
+    }
+
+    /**
+     * Gets the feedforward controller of the system
+     * @return feedforward controller of the system
+     */
+    public FeedforwardController getFeedforwardController() {
+        return feedforwardController;
+    }
+
+    /**
+     * Gets the low pass filter of the system
+     * @return low pass filter of the system, null when a state estimator is used
+     */
+    public LowPassFilter getLowPassFilter() {
+        return lowPassFilter;
+    }
+
+    /**
+     * Gets the state estimator of the system
+     * @return state estimator of the system, null when a low pass filter is used
+     */
+    public StateEstimator getStateEstimator() {
+        return stateEstimator;
+    }
+}
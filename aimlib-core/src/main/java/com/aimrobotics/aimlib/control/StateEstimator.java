@@ -0,0 +1,33 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * StateEstimator interface estimates position and velocity from noisy position measurements
+ * Unlike a LowPassFilter it predicts forward with the velocity estimate, so smoothing does not lag a moving system
+ */
+public interface StateEstimator {
+
+    /**
+     * Updates the estimate with a new measurement
+     * @param measurement measured position
+     * @param controlInput share of the output applied since the last update that accelerates the system, used for prediction when the estimator has a control gain
+     * @param dt change in time since the last update in seconds
+     */
+    void update(double measurement, double controlInput, double dt);
+
+    /**
+     * Gets the estimated position
+     * @return estimated position
+     */
+    double getPosition();
+
+    /**
+     * Gets the estimated velocity
+     * @return estimated velocity in position units per second
+     */
+    double getVelocity();
+
+    /**
+     * Clears the estimate so the next measurement starts it fresh
+     */
+    void reset();
+}
@@ -0,0 +1,52 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * SteadyStateKalmanFilter class is a constant velocity Kalman filter run at its steady state gains
+ * The steady state gains of that filter are alpha-beta gains set by the tracking index, process noise * dt^2 / measurement noise,
+ * so they are solved in closed form and only recomputed when dt changes, with no covariance to propagate
+ *
+ * Gains from Kalata, "The Tracking Index", IEEE Transactions on Aerospace and Electronic Systems, 1984
+ */
+public class SteadyStateKalmanFilter extends AlphaBetaFilter {
+
+    private static final double DT_TOLERANCE = 1e-3; // relative change in dt that recomputes the gains
+
+    private final double accelerationNoise; // standard deviation of the unmodeled acceleration
+    private final double measurementNoise; // standard deviation of the measurement
+    private double gainDT = 0; // dt the gains were computed for
+
+    /**
+     * Constructor for SteadyStateKalmanFilter
+     * @param accelerationNoise standard deviation of the unmodeled acceleration in position units per second squared
+     * @param measurementNoise standard deviation of the measurement in position units
+     */
+    public SteadyStateKalmanFilter(double accelerationNoise, double measurementNoise) {
+        super(1, 0);
+        if (accelerationNoise <= 0 || measurementNoise <= 0) {
+            throw new IllegalArgumentException("Noise levels must be positive");
+        }
+        this.accelerationNoise = accelerationNoise;
+        this.measurementNoise = measurementNoise;
+    }
+
+    @Override
+    protected void updateGains(double dt) {
+        if (gainDT > 0 && Math.abs(dt - gainDT) <= DT_TOLERANCE * gainDT) {
+            return;
+        }
+        double lambda = accelerationNoise * dt * dt / measurementNoise;
+        double r = (4 + lambda - Math.sqrt(8 * lambda + lambda * lambda)) / 4;
+        double alpha = 1 - r * r;
+        double beta = 2 * (2 - alpha) - 4 * Math.sqrt(1 - alpha);
+        setGains(Math.max(alpha, Double.MIN_VALUE), Math.max(beta, 0));
+        gainDT = dt;
+    }
+
+    public double getAccelerationNoise() {
+        return accelerationNoise;
+    }
+
+    public double getMeasurementNoise() {
+        return measurementNoise;
+    }
+}
@@ -0,0 +1,12 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * SystemTimeSource class reads real time from System.nanoTime
+ */
+public class SystemTimeSource implements TimeSource {
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+}
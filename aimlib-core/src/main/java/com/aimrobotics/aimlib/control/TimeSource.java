@@ -0,0 +1,14 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * TimeSource interface supplies monotonic timestamps to controllers and clocks
+ * Lets the control code run on real time on the robot and on simulated time off the robot
+ */
+public interface TimeSource {
+
+    /**
+     * Gets the current time of the source
+     * @return monotonic time in nanoseconds
+     */
+    long nanoTime();
+}
@@ -0,0 +1,17 @@
+package com.aimrobotics.aimlib.control;
+
+/**
+ * TrapezoidalProfile class is a motion profile limited by velocity and acceleration
+ * Acceleration steps between zero and its maximum
+ */
+public class TrapezoidalProfile extends MotionProfile {
+
+    /**
+     * Constructor for TrapezoidalProfile
+     * @param maxVelocity maximum velocity of the profile
+     * @param maxAcceleration maximum acceleration of the profile
+     */
+    public TrapezoidalProfile(double maxVelocity, double maxAcceleration) {
+        super(maxVelocity, maxAcceleration, Double.POSITIVE_INFINITY);
+    }
+}
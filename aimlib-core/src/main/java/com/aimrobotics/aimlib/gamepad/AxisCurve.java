@@ -0,0 +1,107 @@
+package com.aimrobotics.aimlib.gamepad;
+
+/**
+ * AxisCurve class shapes one gamepad axis with a deadzone and an expo curve evaluated from a precomputed table
+ * Past the deadzone the magnitude is rescaled to 0 to 1 and blended between linear and cubic, (1 - expo) * u + expo * u^3
+ * The curve is odd, so negative values are shaped like positive ones, and input is clamped to -1 to 1
+ */
+public class AxisCurve {
+
+    public static final int DEFAULT_RESOLUTION = 256; // table segments between 0 and 1
+
+    private final double deadzone; // magnitude below which the axis reads 0
+    private final double expo; // blend between linear at 0 and cubic at 1
+    private final int resolution; // table segments between 0 and 1
+    private final float[] table; // shaped magnitude at each entry
+
+    /**
+     * Constructor for AxisCurve with the default resolution
+     * @param deadzone magnitude below which the axis reads 0, between 0 and 1
+     * @param expo blend between linear at 0 and cubic at 1
+     */
+    public AxisCurve(double deadzone, double expo) {
+        this(deadzone, expo, DEFAULT_RESOLUTION);
+    }
+
+    /**
+     * Constructor for AxisCurve
+     * @param deadzone magnitude below which the axis reads 0, between 0 and 1
+     * @param expo blend between linear at 0 and cubic at 1
+     * @param resolution table segments between 0 and 1
+     */
+    public AxisCurve(double deadzone, double expo, int resolution) {
+        if (deadzone < 0 || deadzone >= 1) {
+            throw new IllegalArgumentException("Deadzone must be at least 0 and less than 1");
+        }
+        if (expo < 0 || expo > 1) {
+            throw new IllegalArgumentException("Expo must be between 0 and 1");
+        }
+        if (resolution < 1) {
+            throw new IllegalArgumentException("Axis curve needs at least 1 segment");
+        }
+        this.deadzone = deadzone;
+        this.expo = expo;
+        this.resolution = resolution;
+        this.table = new float[resolution + 2];
+        for (int i = 0; i <= resolution; i++) {
+            table[i] = (float) evaluate((double) i / resolution);
+        }
+        table[resolution + 1] = table[resolution];
+    }
+
+    /**
+     * Evaluates the curve directly, used to fill the table
+     * @param magnitude magnitude of the axis, between 0 and 1
+     * @return shaped magnitude
+     */
+    private double evaluate(double magnitude) {
+        if (magnitude <= deadzone) {
+            return 0;
+        }
+        double u = (magnitude - deadzone) / (1 - deadzone);
+        return (1 - expo) * u + expo * u * u * u;
+    }
+
+    /**
+     * Shapes an axis value
+     * @param value raw axis value
+     * @return shaped axis value
+     */
+    public float apply(float value) {
+        float magnitude = value < 0 ? -value : value;
+        if (magnitude <= deadzone) {
+            return 0;
+        }
+        if (magnitude > 1) {
+            magnitude = 1;
+        }
+        float position = magnitude * resolution;
+        int index = (int) position;
+        float shaped = table[index] + (table[index + 1] - table[index]) * (position - index);
+        return value < 0 ? -shaped : shaped;
+    }
+
+    /**
+     * Gets the deadzone
+     * @return magnitude below which the axis reads 0
+     */
+    public double getDeadzone() {
+        return deadzone;
+    }
+
+    /**
+     * Gets the expo
+     * @return blend between linear at 0 and cubic at 1
+     */
+    public double getExpo() {
+        return expo;
+    }
+
+    /**
+     * Gets the number of table segments
+     * @return table segments between 0 and 1
+     */
+    public int getResolution() {
+        return resolution;
+    }
+}
@@ -0,0 +1,209 @@
+package com.aimrobotics.aimlib.gamepad;
+
+/**
+ * ButtonEventDispatcher class calls listeners for press, release, hold and double tap events on buttons or chords
+ * A chord is a mask of several button bits and counts as down only while every one of its bits is down
+ * Subscriptions live in arrays sized at construction, and an update with no changed bits and no pending holds returns at once
+ */
+public class ButtonEventDispatcher {
+
+    public static final int DEFAULT_CAPACITY = 32; // default maximum number of subscriptions
+
+    private static final int PRESS = 0; // chord went down
+    private static final int RELEASE = 1; // chord went up
+    private static final int HOLD = 2; // chord stayed down for a duration
+    private static final int DOUBLE_TAP = 3; // chord went down twice within a window
+
+    private final int capacity; // maximum number of subscriptions
+    private int size = 0; // number of subscription slots used
+    private int subscriptionCount = 0; // number of active subscriptions
+
+    private final int[] kinds; // kind of event of each subscription
+    private final int[] masks; // chord of each subscription
+    private final long[] durations; // hold duration or double tap window of each subscription in nanoseconds
+    private final ButtonListener[] listeners; // listener of each subscription, null once removed
+    private final long[] downTimes; // time each subscription's chord last went down in nanoseconds
+    private final boolean[] pending; // is each hold waiting to fire, or each double tap waiting for its second tap
+    private int pendingHolds = 0; // number of holds waiting to fire
+
+    /**
+     * Constructor for ButtonEventDispatcher
+     * @param capacity maximum number of subscriptions
+     */
+    public ButtonEventDispatcher(int capacity) {
+        this.capacity = capacity;
+        kinds = new int[capacity];
+        masks = new int[capacity];
+        durations = new long[capacity];
+        listeners = new ButtonListener[capacity];
+        downTimes = new long[capacity];
+        pending = new boolean[capacity];
+    }
+
+    /**
+     * Subscribes to a chord going down
+     * @param mask button bits of the chord
+     * @param listener listener to call
+     * @return id of the subscription
+     */
+    public int onPress(int mask, ButtonListener listener) {
+        return subscribe(PRESS, mask, 0, listener);
+    }
+
+    /**
+     * Subscribes to a chord going up
+     * @param mask button bits of the chord
+     * @param listener listener to call
+     * @return id of the subscription
+     */
+    public int onRelease(int mask, ButtonListener listener) {
+        return subscribe(RELEASE, mask, 0, listener);
+    }
+
+    /**
+     * Subscribes to a chord staying down for a duration. Fires once per hold
+     * @param mask button bits of the chord
+     * @param seconds seconds the chord must stay down
+     * @param listener listener to call
+     * @return id of the subscription
+     */
+    public int onHold(int mask, double seconds, ButtonListener listener) {
+        return subscribe(HOLD, mask, (long) (seconds * 1e9), listener);
+    }
+
+    /**
+     * Subscribes to a chord going down twice within a window
+     * @param mask button bits of the chord
+     * @param windowSeconds most seconds between the two presses
+     * @param listener listener to call
+     * @return id of the subscription
+     */
+    public int onDoubleTap(int mask, double windowSeconds, ButtonListener listener) {
+        return subscribe(DOUBLE_TAP, mask, (long) (windowSeconds * 1e9), listener);
+    }
+
+    /**
+     * Adds a subscription, reusing a removed slot if there is one
+     * @param kind kind of event
+     * @param mask button bits of the chord
+     * @param duration hold duration or double tap window in nanoseconds
+     * @param listener listener to call
+     * @return id of the subscription
+     */
+    private int subscribe(int kind, int mask, long duration, ButtonListener listener) {
+        if (mask == 0 || listener == null) {
+            throw new IllegalArgumentException("Subscriptions need a button mask and a listener");
+        }
+        int id = 0;
+        while (id < size && listeners[id] != null) {
+            id++;
+        }
+        if (id == size) {
+            if (size == capacity) {
+                throw new IllegalStateException("ButtonEventDispatcher is full, capacity is " + capacity);
+            }
+            size++;
+        }
+        kinds[id] = kind;
+        masks[id] = mask;
+        durations[id] = duration;
+        listeners[id] = listener;
+        pending[id] = false;
+        subscriptionCount++;
+        return id;
+    }
+
+    /**
+     * Removes a subscription
+     * @param id id of the subscription
+     */
+    public void remove(int id) {
+        if (listeners[id] == null) {
+            return;
+        }
+        if (kinds[id] == HOLD && pending[id]) {
+            pendingHolds--;
+        }
+        listeners[id] = null;
+        pending[id] = false;
+        subscriptionCount--;
+    }
+
+    /**
+     * Calls the listeners of every event caused by a gamepad update
+     * @param buttons bits down this update
+     * @param previousButtons bits down last update
+     * @param now time of the update in nanoseconds
+     */
+    public void dispatch(int buttons, int previousButtons, long now) {
+        int changed = buttons ^ previousButtons;
+        if (changed == 0 && pendingHolds == 0) {
+            return;
+        }
+        for (int id = 0; id < size; id++) {
+            ButtonListener listener = listeners[id];
+            if (listener == null) {
+                continue;
+            }
+            int mask = masks[id];
+            if ((changed & mask) == 0 && !(kinds[id] == HOLD && pending[id])) {
+                continue;
+            }
+            boolean down = (buttons & mask) == mask;
+            boolean wasDown = (previousButtons & mask) == mask;
+            switch (kinds[id]) {
+                case PRESS:
+                    if (down && !wasDown) {
+                        listener.onButtonEvent();
+                    }
+                    break;
+                case RELEASE:
+                    if (!down && wasDown) {
+                        listener.onButtonEvent();
+                    }
+                    break;
+                case HOLD:
+                    if (down && !wasDown) {
+                        downTimes[id] = now;
+                        if (!pending[id]) {
+                            pending[id] = true;
+                            pendingHolds++;
+                        }
+                    } else if (!down && pending[id]) {
+                        pending[id] = false;
+                        pendingHolds--;
+                    }
+                    if (pending[id] && now < downTimes[id]) {
+                        downTimes[id] = now; // clock was set back, such as by a replay rewind
+                    }
+                    if (pending[id] && now - downTimes[id] >= durations[id]) {
+                        pending[id] = false;
+                        pendingHolds--;
+                        listener.onButtonEvent();
+                    }
+                    break;
+                case DOUBLE_TAP:
+                    if (down && !wasDown) {
+                        if (pending[id] && now >= downTimes[id] && now - downTimes[id] <= durations[id]) {
+                            pending[id] = false;
+                            listener.onButtonEvent();
+                        } else {
+                            pending[id] = true;
+                            downTimes[id] = now;
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Checks if any subscription exists
+     * @return true if at least one listener is subscribed
+     */
+    public boolean hasSubscriptions() {
+        return subscriptionCount > 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.aimrobotics.aimlib.gamepad;
+
+/**
+ * ButtonListener interface is called when a subscribed button event happens during a gamepad update
+ */
+public interface ButtonListener {
+
+    /**
+     * Called once for each event the listener is subscribed to
+     */
+    void onButtonEvent();
+}
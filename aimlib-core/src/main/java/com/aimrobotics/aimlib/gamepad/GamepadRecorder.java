@@ -0,0 +1,140 @@
+package com.aimrobotics.aimlib.gamepad;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * GamepadRecorder class writes a fixed width binary record of every gamepad update to a file
+ * Records are packed into a preallocated buffer and written to the file only when the buffer fills, so recording does not allocate
+ * A write error stops the recording instead of throwing inside the loop, check hasFailed after the match
+ */
+public class GamepadRecorder {
+
+    public static final int MAGIC = 0x41494D50; // "AIMP", marks a gamepad recording
+    public static final int VERSION = 1; // format version of the recording
+    public static final int HEADER_SIZE = 12; // magic, version and record size
+    public static final int RECORD_SIZE = 8 + 4 + 6 * 4; // timestamp, buttons and six axes
+    public static final int DEFAULT_BUFFER_RECORDS = 2048; // records buffered between writes, about 40 seconds at 50 Hz
+
+    private final FileOutputStream stream; // file being written
+    private final FileChannel channel; // channel of the file being written
+    private final ByteBuffer buffer; // records waiting to be written
+
+    private long recordCount = 0; // number of records taken
+    private boolean failed = false; // has a write failed
+    private boolean closed = false; // has the recorder been closed
+
+    /**
+     * Constructor for GamepadRecorder with the default buffer size
+     * @param file file to write, replaced if it exists
+     * @throws IOException if the file can not be opened
+     */
+    public GamepadRecorder(File file) throws IOException {
+        this(file, DEFAULT_BUFFER_RECORDS);
+    }
+
+    /**
+     * Constructor for GamepadRecorder
+     * @param file file to write, replaced if it exists
+     * @param bufferRecords records buffered between writes
+     * @throws IOException if the file can not be opened
+     */
+    public GamepadRecorder(File file, int bufferRecords) throws IOException {
+        stream = new FileOutputStream(file);
+        channel = stream.getChannel();
+        buffer = ByteBuffer.allocateDirect(Math.max(bufferRecords, 1) * RECORD_SIZE + HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(RECORD_SIZE);
+    }
+
+    /**
+     * Records one gamepad update
+     * @param time time of the update in nanoseconds
+     * @param buttons raw button bits of the update
+     * @param leftStickX left stick x value
+     * @param leftStickY left stick y value
+     * @param rightStickX right stick x value
+     * @param rightStickY right stick y value
+     * @param leftTrigger left trigger value
+     * @param rightTrigger right trigger value
+     */
+    public void record(long time, int buttons, float leftStickX, float leftStickY, float rightStickX, float rightStickY, float leftTrigger, float rightTrigger) {
+        if (failed || closed) {
+            return;
+        }
+        if (buffer.remaining() < RECORD_SIZE) {
+            writeBuffer();
+            if (failed) {
+                return;
+            }
+        }
+        buffer.putLong(time)
+                .putInt(buttons)
+                .putFloat(leftStickX)
+                .putFloat(leftStickY)
+                .putFloat(rightStickX)
+                .putFloat(rightStickY)
+                .putFloat(leftTrigger)
+                .putFloat(rightTrigger);
+        recordCount++;
+    }
+
+    /**
+     * Writes the buffered records to the file
+     */
+    public void flush() {
+        if (!failed && !closed) {
+            writeBuffer();
+        }
+    }
+
+    /**
+     * Writes the buffered records and closes the file
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        try {
+            stream.close();
+        } catch (IOException e) {
+            failed = true;
+        }
+    }
+
+    /**
+     * Writes the buffered records to the file and empties the buffer
+     */
+    private void writeBuffer() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            failed = true;
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Gets the number of records taken
+     * @return number of records
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Checks if a write has failed, which stops the recording
+     * @return true if a write failed
+     */
+    public boolean hasFailed() {
+        return failed;
+    }
+}
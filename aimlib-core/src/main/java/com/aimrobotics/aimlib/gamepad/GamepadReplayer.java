@@ -0,0 +1,162 @@
+package com.aimrobotics.aimlib.gamepad;
+
+import com.aimrobotics.aimlib.control.ManualTimeSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * GamepadReplayer class feeds a recording made by GamepadRecorder back into a GamepadState
+ * The recording is memory mapped, and records can be replayed one per loop or against elapsed time at any speed
+ * Set the state's time source to getTimeSource so hold and double tap events replay on the recorded timestamps
+ */
+public class GamepadReplayer {
+
+    private final MappedByteBuffer buffer; // mapped recording
+    private final int recordCount; // number of records in the recording
+    private final long startTime; // timestamp of the first record in nanoseconds
+    private final ManualTimeSource timeSource; // time of the last record applied
+
+    private double speed = 1; // replay speed, 2 replays twice as fast as recorded
+    private int nextRecord = 0; // index of the next record to apply
+
+    /**
+     * Constructor for GamepadReplayer
+     * @param file recording to replay
+     * @throws IOException if the file can not be read or is not a gamepad recording
+     */
+    public GamepadReplayer(File file) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            randomAccessFile.close();
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.limit() < GamepadRecorder.HEADER_SIZE
+                || buffer.getInt(0) != GamepadRecorder.MAGIC
+                || buffer.getInt(4) != GamepadRecorder.VERSION
+                || buffer.getInt(8) != GamepadRecorder.RECORD_SIZE) {
+            throw new IOException("Not a gamepad recording: " + file);
+        }
+        recordCount = (buffer.limit() - GamepadRecorder.HEADER_SIZE) / GamepadRecorder.RECORD_SIZE;
+        startTime = recordCount > 0 ? buffer.getLong(GamepadRecorder.HEADER_SIZE) : 0;
+        timeSource = new ManualTimeSource(startTime);
+    }
+
+    /**
+     * Applies the next record, ignoring time. Replays as fast as the loop runs
+     * @param state state to update
+     * @return true if a record was applied, false when the recording is finished
+     */
+    public boolean next(GamepadState state) {
+        if (nextRecord >= recordCount) {
+            return false;
+        }
+        apply(state, nextRecord++);
+        return true;
+    }
+
+    /**
+     * Applies every record up to the elapsed time of the replay, scaled by the replay speed
+     * Each of those records updates the state in order, so a press and release that fall within one call are not lost.
+     * Listeners see the events of every record, while queries such as isPressed only see the last update of the call
+     * @param state state to update
+     * @param elapsedNanos nanoseconds since the replay started
+     * @return true if a record was applied
+     */
+    public boolean advance(GamepadState state, long elapsedNanos) {
+        long recordedElapsed = (long) (elapsedNanos * speed);
+        boolean applied = false;
+        while (nextRecord < recordCount && timeOf(nextRecord) - startTime <= recordedElapsed) {
+            apply(state, nextRecord++);
+            applied = true;
+        }
+        return applied;
+    }
+
+    /**
+     * Updates a state with a record
+     * @param state state to update
+     * @param record index of the record
+     */
+    private void apply(GamepadState state, int record) {
+        int offset = offsetOf(record);
+        long time = buffer.getLong(offset);
+        if (time > timeSource.nanoTime()) {
+            timeSource.advanceNanos(time - timeSource.nanoTime());
+        }
+        state.update(buffer.getInt(offset + 8),
+                buffer.getFloat(offset + 12),
+                buffer.getFloat(offset + 16),
+                buffer.getFloat(offset + 20),
+                buffer.getFloat(offset + 24),
+                buffer.getFloat(offset + 28),
+                buffer.getFloat(offset + 32));
+    }
+
+    private long timeOf(int record) {
+        return buffer.getLong(offsetOf(record));
+    }
+
+    private static int offsetOf(int record) {
+        return GamepadRecorder.HEADER_SIZE + record * GamepadRecorder.RECORD_SIZE;
+    }
+
+    /**
+     * Starts the replay over from the first record and sets the time source back to the first timestamp
+     * Pending hold and double tap timing on a state driven by the time source restarts from the rewound time
+     */
+    public void rewind() {
+        nextRecord = 0;
+        timeSource.reset(startTime);
+    }
+
+    /**
+     * Checks if every record has been applied
+     * @return true when the recording is finished
+     */
+    public boolean isFinished() {
+        return nextRecord >= recordCount;
+    }
+
+    /**
+     * Sets the replay speed used by advance
+     * @param speed replay speed, 1 for real time, 2 for twice as fast
+     */
+    public void setSpeed(double speed) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("Replay speed must be positive");
+        }
+        this.speed = speed;
+    }
+
+    /**
+     * Gets a clock that reads the recorded timestamp of the last record applied
+     * @return time source of the replay
+     */
+    public ManualTimeSource getTimeSource() {
+        return timeSource;
+    }
+
+    /**
+     * Gets the number of records in the recording
+     * @return number of records
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Gets the recorded length of the recording
+     * @return nanoseconds between the first and last record
+     */
+    public long getDurationNanos() {
+        return recordCount > 0 ? timeOf(recordCount - 1) - startTime : 0;
+    }
+}
@@ -0,0 +1,978 @@
+package com.aimrobotics.aimlib.gamepad;
+
+import com.aimrobotics.aimlib.control.SystemTimeSource;
+import com.aimrobotics.aimlib.control.TimeSource;
+
+/**
+ * GamepadState class holds one gamepad's buttons packed into an int bitmask and its axes as primitive fields
+ * Pressed, released and held edges are computed once per update with bit masks, so every query is a single mask test
+ * Listeners can subscribe to press, release, hold and double tap events, which are dispatched inside update
+ * Sticks and triggers can be shaped with deadzones and expo curves, and the trigger and stick movement bits can use hysteresis
+ * Hardware independent, AIMPad fills it from an SDK Gamepad
+ */
+public class GamepadState {
+
+    // button bits
+    public static final int A = 1;
+    public static final int B = 1 << 1;
+    public static final int X = 1 << 2;
+    public static final int Y = 1 << 3;
+    public static final int DPAD_UP = 1 << 4;
+    public static final int DPAD_DOWN = 1 << 5;
+    public static final int DPAD_LEFT = 1 << 6;
+    public static final int DPAD_RIGHT = 1 << 7;
+    public static final int LEFT_BUMPER = 1 << 8;
+    public static final int RIGHT_BUMPER = 1 << 9;
+    public static final int LEFT_STICK_BUTTON = 1 << 10;
+    public static final int RIGHT_STICK_BUTTON = 1 << 11;
+    public static final int START = 1 << 12;
+    public static final int BACK = 1 << 13;
+    public static final int GUIDE = 1 << 14;
+
+    // bits derived from the axes during update
+    public static final int LEFT_TRIGGER = 1 << 15;
+    public static final int RIGHT_TRIGGER = 1 << 16;
+    public static final int LEFT_STICK_MOVEMENT = 1 << 17;
+    public static final int RIGHT_STICK_MOVEMENT = 1 << 18;
+
+    // groups of bits
+    public static final int ANY_DPAD = DPAD_UP | DPAD_DOWN | DPAD_LEFT | DPAD_RIGHT;
+    public static final int ANY_BUMPER = LEFT_BUMPER | RIGHT_BUMPER;
+    public static final int ANY_TRIGGER = LEFT_TRIGGER | RIGHT_TRIGGER;
+    public static final int ANY_BUTTON = A | B | X | Y | ANY_BUMPER | ANY_DPAD | LEFT_STICK_BUTTON | RIGHT_STICK_BUTTON
+            | START | BACK | ANY_TRIGGER | LEFT_STICK_MOVEMENT | RIGHT_STICK_MOVEMENT;
+
+    // mask of the bits supplied by the gamepad rather than derived from the axes
+    public static final int RAW_BUTTONS = (1 << 15) - 1;
+
+    private int buttons = 0; // bits down this update
+    private int previousButtons = 0; // bits down last update
+    private int pressed = 0; // bits that went down this update
+    private int released = 0; // bits that went up this update
+    private int held = 0; // bits down this update and last update
+
+    private final ButtonEventDispatcher events = new ButtonEventDispatcher(ButtonEventDispatcher.DEFAULT_CAPACITY); // subscribed listeners
+    private TimeSource timeSource = new SystemTimeSource(); // source of the timestamps for hold and double tap events
+    private GamepadRecorder recorder = null; // recorder of every update, null when not recording
+
+    private StickShaper leftStickShaper = null; // shaping of the left stick, null for raw values
+    private StickShaper rightStickShaper = null; // shaping of the right stick, null for raw values
+    private AxisCurve leftTriggerCurve = null; // shaping of the left trigger, null for raw values
+    private AxisCurve rightTriggerCurve = null; // shaping of the right trigger, null for raw values
+    private final float[] shapedStick = new float[2]; // shaped stick axes, reused every update
+
+    private float triggerEngageThreshold = 0; // trigger value above which a released trigger goes down
+    private float triggerReleaseThreshold = 0; // trigger value at or below which a down trigger goes up
+    private double stickEngageThresholdSquared = 0; // squared stick distance above which a centered stick starts moving
+    private double stickReleaseThresholdSquared = 0; // squared stick distance at or below which a moving stick stops
+
+    private float leftStickX, leftStickY, rightStickX, rightStickY, leftTrigger, rightTrigger; // axes this update
+    private float previousLeftStickX, previousLeftStickY, previousRightStickX, previousRightStickY, previousLeftTrigger, previousRightTrigger; // axes last update
+
+    /**
+     * Updates the state with a new snapshot of the gamepad
+     * The axes are shaped before the trigger and stick movement bits are derived from them
+     * @param rawButtons buttons down, as a mask of the button bits
+     * @param leftStickX left stick x value
+     * @param leftStickY left stick y value
+     * @param rightStickX right stick x value
+     * @param rightStickY right stick y value
+     * @param leftTrigger left trigger value
+     * @param rightTrigger right trigger value
+     */
+    public void update(int rawButtons, float leftStickX, float leftStickY, float rightStickX, float rightStickY, float leftTrigger, float rightTrigger) {
+        if (recorder != null) {
+            recorder.record(timeSource.nanoTime(), rawButtons & RAW_BUTTONS, leftStickX, leftStickY, rightStickX, rightStickY, leftTrigger, rightTrigger);
+        }
+        previousLeftStickX = this.leftStickX;
+        previousLeftStickY = this.leftStickY;
+        previousRightStickX = this.rightStickX;
+        previousRightStickY = this.rightStickY;
+        previousLeftTrigger = this.leftTrigger;
+        previousRightTrigger = this.rightTrigger;
+        if (leftStickShaper != null) {
+            leftStickShaper.shape(leftStickX, leftStickY, shapedStick);
+            leftStickX = shapedStick[0];
+            leftStickY = shapedStick[1];
+        }
+        if (rightStickShaper != null) {
+            rightStickShaper.shape(rightStickX, rightStickY, shapedStick);
+            rightStickX = shapedStick[0];
+            rightStickY = shapedStick[1];
+        }
+        if (leftTriggerCurve != null) {
+            leftTrigger = leftTriggerCurve.apply(leftTrigger);
+        }
+        if (rightTriggerCurve != null) {
+            rightTrigger = rightTriggerCurve.apply(rightTrigger);
+        }
+        this.leftStickX = leftStickX;
+        this.leftStickY = leftStickY;
+        this.rightStickX = rightStickX;
+        this.rightStickY = rightStickY;
+        this.leftTrigger = leftTrigger;
+        this.rightTrigger = rightTrigger;
+
+        int current = rawButtons & RAW_BUTTONS;
+        if (leftTrigger > ((buttons & LEFT_TRIGGER) != 0 ? triggerReleaseThreshold : triggerEngageThreshold)) {
+            current |= LEFT_TRIGGER;
+        }
+        if (rightTrigger > ((buttons & RIGHT_TRIGGER) != 0 ? triggerReleaseThreshold : triggerEngageThreshold)) {
+            current |= RIGHT_TRIGGER;
+        }
+        if ((double) leftStickX * leftStickX + (double) leftStickY * leftStickY
+                > ((buttons & LEFT_STICK_MOVEMENT) != 0 ? stickReleaseThresholdSquared : stickEngageThresholdSquared)) {
+            current |= LEFT_STICK_MOVEMENT;
+        }
+        if ((double) rightStickX * rightStickX + (double) rightStickY * rightStickY
+                > ((buttons & RIGHT_STICK_MOVEMENT) != 0 ? stickReleaseThresholdSquared : stickEngageThresholdSquared)) {
+            current |= RIGHT_STICK_MOVEMENT;
+        }
+
+        previousButtons = buttons;
+        buttons = current;
+        pressed = current & ~previousButtons;
+        released = ~current & previousButtons;
+        held = current & previousButtons;
+
+        if (events.hasSubscriptions()) {
+            events.dispatch(current, previousButtons, timeSource.nanoTime());
+        }
+    }
+
+    //
+    // EVENTS
+    //
+
+    /**
+     * Subscribes to a button or chord going down. Called during update
+     * @param mask button bits of the chord, such as A or LEFT_BUMPER | RIGHT_BUMPER
+     * @param listener listener to call
+     * @return id of the subscription
+     */
+    public int onPress(int mask, ButtonListener listener) {
+        return events.onPress(mask, listener);
+    }
+
+    /**
+     * Subscribes to a button or chord going up. Called during update
+     * @param mask button bits of the chord
+     * @param listener listener to call
+     * @return id of the subscription
+     */
+    public int onRelease(int mask, ButtonListener listener) {
+        return events.onRelease(mask, listener);
+    }
+
+    /**
+     * Subscribes to a button or chord staying down for a duration. Called once per hold during update
+     * @param mask button bits of the chord
+     * @param seconds seconds the chord must stay down
+     * @param listener listener to call
+     * @return id of the subscription
+     */
+    public int onHold(int mask, double seconds, ButtonListener listener) {
+        return events.onHold(mask, seconds, listener);
+    }
+
+    /**
+     * Subscribes to a button or chord going down twice within a window. Called during update
+     * @param mask button bits of the chord
+     * @param windowSeconds most seconds between the two presses
+     * @param listener listener to call
+     * @return id of the subscription
+     */
+    public int onDoubleTap(int mask, double windowSeconds, ButtonListener listener) {
+        return events.onDoubleTap(mask, windowSeconds, listener);
+    }
+
+    /**
+     * Removes a subscription
+     * @param id id returned when subscribing
+     */
+    public void removeListener(int id) {
+        events.remove(id);
+    }
+
+    /**
+     * Sets the source of the timestamps for hold and double tap events
+     * @param timeSource source of the timestamps
+     */
+    public void setTimeSource(TimeSource timeSource) {
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * Sets a recorder that records the raw input of every update, timestamped by the time source
+     * @param recorder recorder to use, or null to stop recording
+     */
+    public void setRecorder(GamepadRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Checks if any of the bits went down this update
+     * @param mask button bits to check
+     * @return true if any of the bits is pressed
+     */
+    public boolean isPressed(int mask) {
+        return (pressed & mask) != 0;
+    }
+
+    /**
+     * Checks if any of the bits went up this update
+     * @param mask button bits to check
+     * @return true if any of the bits is released
+     */
+    public boolean isReleased(int mask) {
+        return (released & mask) != 0;
+    }
+
+    /**
+     * Checks if any of the bits is down this update and was down last update
+     * @param mask button bits to check
+     * @return true if any of the bits is held
+     */
+    public boolean isHeld(int mask) {
+        return (held & mask) != 0;
+    }
+
+    /**
+     * Checks if every one of the bits is down this update
+     * @param mask button bits to check
+     * @return true if all of the bits are down
+     */
+    public boolean isDown(int mask) {
+        return (buttons & mask) == mask;
+    }
+
+    /**
+     * Gets the bits down this update
+     * @return mask of the bits down
+     */
+    public int getButtons() {
+        return buttons;
+    }
+
+    /**
+     * Gets the bits down last update
+     * @return mask of the bits down last update
+     */
+    public int getPreviousButtons() {
+        return previousButtons;
+    }
+
+    /**
+     * Gets the bits that went down this update
+     * @return mask of the pressed bits
+     */
+    public int getPressed() {
+        return pressed;
+    }
+
+    /**
+     * Gets the bits that went up this update
+     * @return mask of the released bits
+     */
+    public int getReleased() {
+        return released;
+    }
+
+    /**
+     * Gets the bits down this update and last update
+     * @return mask of the held bits
+     */
+    public int getHeld() {
+        return held;
+    }
+
+    //
+    // SHAPING
+    //
+
+    /**
+     * Sets the shaping of the left stick
+     * @param shaper shaping to apply during update, or null for raw values
+     */
+    public void setLeftStickShaper(StickShaper shaper) {
+        this.leftStickShaper = shaper;
+    }
+
+    /**
+     * Sets the shaping of the right stick
+     * @param shaper shaping to apply during update, or null for raw values
+     */
+    public void setRightStickShaper(StickShaper shaper) {
+        this.rightStickShaper = shaper;
+    }
+
+    /**
+     * Sets the shaping of the left trigger
+     * @param curve curve to apply during update, or null for raw values
+     */
+    public void setLeftTriggerCurve(AxisCurve curve) {
+        this.leftTriggerCurve = curve;
+    }
+
+    /**
+     * Sets the shaping of the right trigger
+     * @param curve curve to apply during update, or null for raw values
+     */
+    public void setRightTriggerCurve(AxisCurve curve) {
+        this.rightTriggerCurve = curve;
+    }
+
+    /**
+     * Sets the hysteresis of the trigger bits. Both 0 gives pressed on any value above 0
+     * @param engageThreshold shaped value above which a released trigger goes down
+     * @param releaseThreshold shaped value at or below which a down trigger goes up, no more than the engage threshold
+     */
+    public void setTriggerThresholds(double engageThreshold, double releaseThreshold) {
+        if (releaseThreshold > engageThreshold || releaseThreshold < 0) {
+            throw new IllegalArgumentException("Release threshold must be between 0 and the engage threshold");
+        }
+        this.triggerEngageThreshold = (float) engageThreshold;
+        this.triggerReleaseThreshold = (float) releaseThreshold;
+    }
+
+    /**
+     * Sets the hysteresis of the stick movement bits, measured as distance from center. Both 0 gives movement on any nonzero axis
+     * @param engageThreshold shaped distance above which a centered stick starts moving
+     * @param releaseThreshold shaped distance at or below which a moving stick stops, no more than the engage threshold
+     */
+    public void setStickThresholds(double engageThreshold, double releaseThreshold) {
+        if (releaseThreshold > engageThreshold || releaseThreshold < 0) {
+            throw new IllegalArgumentException("Release threshold must be between 0 and the engage threshold");
+        }
+        this.stickEngageThresholdSquared = engageThreshold * engageThreshold;
+        this.stickReleaseThresholdSquared = releaseThreshold * releaseThreshold;
+    }
+
+    //
+    // BUTTONS PRESSED
+    //
+
+    /**
+     * Checks if the A button is pressed
+     * @return true if the A button is pressed
+     */
+    public boolean isAPressed() {
+        return (pressed & A) != 0;
+    }
+
+    /**
+     * Checks if the B button is pressed
+     * @return true if the B button is pressed
+     */
+    public boolean isBPressed() {
+        return (pressed & B) != 0;
+    }
+
+    /**
+     * Checks if the X button is pressed
+     * @return true if the X button is pressed
+     */
+    public boolean isXPressed() {
+        return (pressed & X) != 0;
+    }
+
+    /**
+     * Checks if the Y button is pressed
+     * @return true if the Y button is pressed
+     */
+    public boolean isYPressed() {
+        return (pressed & Y) != 0;
+    }
+
+    /**
+     * Checks if the DPad Up button is pressed
+     * @return true if the DPad Up button is pressed
+     */
+    public boolean isDPadUpPressed() {
+        return (pressed & DPAD_UP) != 0;
+    }
+
+    /**
+     * Checks if the DPad Down button is pressed
+     * @return true if the DPad Down button is pressed
+     */
+    public boolean isDPadDownPressed() {
+        return (pressed & DPAD_DOWN) != 0;
+    }
+
+    /**
+     * Checks if the DPad Left button is pressed
+     * @return true if the DPad Left button is pressed
+     */
+    public boolean isDPadLeftPressed() {
+        return (pressed & DPAD_LEFT) != 0;
+    }
+
+    /**
+     * Checks if the DPad Right button is pressed
+     * @return true if the DPad Right button is pressed
+     */
+    public boolean isDPadRightPressed() {
+        return (pressed & DPAD_RIGHT) != 0;
+    }
+
+    /**
+     * Checks if the Left Bumper button is pressed
+     * @return true if the Left Bumper button is pressed
+     */
+    public boolean isLeftBumperPressed() {
+        return (pressed & LEFT_BUMPER) != 0;
+    }
+
+    /**
+     * Checks if the Right Bumper button is pressed
+     * @return true if the Right Bumper button is pressed
+     */
+    public boolean isRightBumperPressed() {
+        return (pressed & RIGHT_BUMPER) != 0;
+    }
+
+    /**
+     * Checks if the Left Stick button is pressed
+     * @return true if the Left Stick button is pressed
+     */
+    public boolean isLeftStickPressed() {
+        return (pressed & LEFT_STICK_BUTTON) != 0;
+    }
+
+    /**
+     * Checks if the Right Stick button is pressed
+     * @return true if the Right Stick button is pressed
+     */
+    public boolean isRightStickPressed() {
+        return (pressed & RIGHT_STICK_BUTTON) != 0;
+    }
+
+    /**
+     * Checks if the Start button is pressed
+     * @return true if the Start button is pressed
+     */
+    public boolean isStartPressed() {
+        return (pressed & START) != 0;
+    }
+
+    /**
+     * Checks if the Back button is pressed
+     * @return true if the Back button is pressed
+     */
+    public boolean isBackPressed() {
+        return (pressed & BACK) != 0;
+    }
+
+    /**
+     * Checks if any DPad button is pressed
+     * @return true if any DPad button is pressed
+     */
+    public boolean isAnyDPadPressed() {
+        return (pressed & ANY_DPAD) != 0;
+    }
+
+    /**
+     * Checks if any bumper button is pressed
+     * @return true if any bumper button is pressed
+     */
+    public boolean isAnyBumperPressed() {
+        return (pressed & ANY_BUMPER) != 0;
+    }
+
+    //
+    // BUTTONS RELEASED
+    //
+
+    /**
+     * Checks if the A button is released
+     * @return true if the A button is released
+     */
+    public boolean isAReleased() {
+        return (released & A) != 0;
+    }
+
+    /**
+     * Checks if the B button is released
+     * @return true if the B button is released
+     */
+    public boolean isBReleased() {
+        return (released & B) != 0;
+    }
+
+    /**
+     * Checks if the X button is released
+     * @return true if the X button is released
+     */
+    public boolean isXReleased() {
+        return (released & X) != 0;
+    }
+
+    /**
+     * Checks if the Y button is released
+     * @return true if the Y button is released
+     */
+    public boolean isYReleased() {
+        return (released & Y) != 0;
+    }
+
+    /**
+     * Checks if the DPad Up button is released
+     * @return true if the DPad Up button is released
+     */
+    public boolean isDPadUpReleased() {
+        return (released & DPAD_UP) != 0;
+    }
+
+    /**
+     * Checks if the DPad Down button is released
+     * @return true if the DPad Down button is released
+     */
+    public boolean isDPadDownReleased() {
+        return (released & DPAD_DOWN) != 0;
+    }
+
+    /**
+     * Checks if the DPad Left button is released
+     * @return true if the DPad Left button is released
+     */
+    public boolean isDPadLeftReleased() {
+        return (released & DPAD_LEFT) != 0;
+    }
+
+    /**
+     * Checks if the DPad Right button is released
+     * @return true if the DPad Right button is released
+     */
+    public boolean isDPadRightReleased() {
+        return (released & DPAD_RIGHT) != 0;
+    }
+
+    /**
+     * Checks if the Left Bumper button is released
+     * @return true if the Left Bumper button is released
+     */
+    public boolean isLeftBumperReleased() {
+        return (released & LEFT_BUMPER) != 0;
+    }
+
+    /**
+     * Checks if the Right Bumper button is released
+     * @return true if the Right Bumper button is released
+     */
+    public boolean isRightBumperReleased() {
+        return (released & RIGHT_BUMPER) != 0;
+    }
+
+    /**
+     * Checks if the Left Stick button is released
+     * @return true if the Left Stick button is released
+     */
+    public boolean isLeftStickReleased() {
+        return (released & LEFT_STICK_BUTTON) != 0;
+    }
+
+    /**
+     * Checks if the Right Stick button is released
+     * @return true if the Right Stick button is released
+     */
+    public boolean isRightStickReleased() {
+        return (released & RIGHT_STICK_BUTTON) != 0;
+    }
+
+    /**
+     * Checks if the Start button is released
+     * @return true if the Start button is released
+     */
+    public boolean isStartReleased() {
+        return (released & START) != 0;
+    }
+
+    /**
+     * Checks if the Back button is released
+     * @return true if the Back button is released
+     */
+    public boolean isBackReleased() {
+        return (released & BACK) != 0;
+    }
+
+    /**
+     * Checks if any DPad button is released
+     * @return true if any DPad button is released
+     */
+    public boolean isAnyDPadReleased() {
+        return (released & ANY_DPAD) != 0;
+    }
+
+    /**
+     * Checks if any bumper button is released
+     * @return true if any bumper button is released
+     */
+    public boolean isAnyBumperReleased() {
+        return (released & ANY_BUMPER) != 0;
+    }
+
+    //
+    // BUTTONS HELD
+    //
+
+    /**
+     * Checks if the A button is held
+     * @return true if the A button is held
+     */
+    public boolean isAHeld() {
+        return (held & A) != 0;
+    }
+
+    /**
+     * Checks if the B button is held
+     * @return true if the B button is held
+     */
+    public boolean isBHeld() {
+        return (held & B) != 0;
+    }
+
+    /**
+     * Checks if the X button is held
+     * @return true if the X button is held
+     */
+    public boolean isXHeld() {
+        return (held & X) != 0;
+    }
+
+    /**
+     * Checks if the Y button is held
+     * @return true if the Y button is held
+     */
+    public boolean isYHeld() {
+        return (held & Y) != 0;
+    }
+
+    /**
+     * Checks if the DPad Up button is held
+     * @return true if the DPad Up button is held
+     */
+    public boolean isDPadUpHeld() {
+        return (held & DPAD_UP) != 0;
+    }
+
+    /**
+     * Checks if the DPad Down button is held
+     * @return true if the DPad Down button is held
+     */
+    public boolean isDPadDownHeld() {
+        return (held & DPAD_DOWN) != 0;
+    }
+
+    /**
+     * Checks if the DPad Left button is held
+     * @return true if the DPad Left button is held
+     */
+    public boolean isDPadLeftHeld() {
+        return (held & DPAD_LEFT) != 0;
+    }
+
+    /**
+     * Checks if the DPad Right button is held
+     * @return true if the DPad Right button is held
+     */
+    public boolean isDPadRightHeld() {
+        return (held & DPAD_RIGHT) != 0;
+    }
+
+    /**
+     * Checks if the Left Bumper button is held
+     * @return true if the Left Bumper button is held
+     */
+    public boolean isLeftBumperHeld() {
+        return (held & LEFT_BUMPER) != 0;
+    }
+
+    /**
+     * Checks if the Right Bumper button is held
+     * @return true if the Right Bumper button is held
+     */
+    public boolean isRightBumperHeld() {
+        return (held & RIGHT_BUMPER) != 0;
+    }
+
+    /**
+     * Checks if the Left Stick button is held
+     * @return true if the Left Stick button is held
+     */
+    public boolean isLeftStickHeld() {
+        return (held & LEFT_STICK_BUTTON) != 0;
+    }
+
+    /**
+     * Checks if the Right Stick button is held
+     * @return true if the Right Stick button is held
+     */
+    public boolean isRightStickHeld() {
+        return (held & RIGHT_STICK_BUTTON) != 0;
+    }
+
+    /**
+     * Checks if the Start button is held
+     * @return true if the Start button is held
+     */
+    public boolean isStartHeld() {
+        return (held & START) != 0;
+    }
+
+    /**
+     * Checks if the Back button is held
+     * @return true if the Back button is held
+     */
+    public boolean isBackHeld() {
+        return (held & BACK) != 0;
+    }
+
+    /**
+     * Checks if any DPad button is held
+     * @return true if any DPad button is held
+     */
+    public boolean isAnyDPadHeld() {
+        return (held & ANY_DPAD) != 0;
+    }
+
+    /**
+     * Checks if any bumper button is held
+     * @return true if any bumper button is held
+     */
+    public boolean isAnyBumperHeld() {
+        return (held & ANY_BUMPER) != 0;
+    }
+
+    //
+    // TRIGGERS
+    //
+
+    /**
+     * Gets the left trigger value
+     * @return left trigger value
+     */
+    public double getLeftTrigger() {
+        return leftTrigger;
+    }
+
+    /**
+     * Gets the right trigger value
+     * @return right trigger value
+     */
+    public double getRightTrigger() {
+        return rightTrigger;
+    }
+
+    /**
+     * Checks if the left trigger is pressed
+     * @return true if the left trigger is pressed
+     */
+    public boolean isLeftTriggerPressed() {
+        return (pressed & LEFT_TRIGGER) != 0;
+    }
+
+    /**
+     * Checks if the right trigger is pressed
+     * @return true if the right trigger is pressed
+     */
+    public boolean isRightTriggerPressed() {
+        return (pressed & RIGHT_TRIGGER) != 0;
+    }
+
+    /**
+     * Checks if the left trigger is released
+     * @return true if the left trigger is released
+     */
+    public boolean isLeftTriggerReleased() {
+        return (released & LEFT_TRIGGER) != 0;
+    }
+
+    /**
+     * Checks if the right trigger is released
+     * @return true if the right trigger is released
+     */
+    public boolean isRightTriggerReleased() {
+        return (released & RIGHT_TRIGGER) != 0;
+    }
+
+    /**
+     * Checks if the left trigger is held
+     * @return true if the left trigger is held
+     */
+    public boolean isLeftTriggerHeld() {
+        return (held & LEFT_TRIGGER) != 0;
+    }
+
+    /**
+     * Checks if the right trigger is held
+     * @return true if the right trigger is held
+     */
+    public boolean isRightTriggerHeld() {
+        return (held & RIGHT_TRIGGER) != 0;
+    }
+
+    /**
+     * Checks if any trigger is pressed
+     * @return true if any trigger is pressed
+     */
+    public boolean isAnyTriggerPressed() {
+        return (pressed & ANY_TRIGGER) != 0;
+    }
+
+    /**
+     * Checks if any trigger is released
+     * @return true if any trigger is released
+     */
+    public boolean isAnyTriggerReleased() {
+        return (released & ANY_TRIGGER) != 0;
+    }
+
+    /**
+     * Checks if any trigger is held
+     * @return true if any trigger is held
+     */
+    public boolean isAnyTriggerHeld() {
+        return (held & ANY_TRIGGER) != 0;
+    }
+
+    //
+    // STICKS
+    //
+
+    /**
+     * Gets the left stick x value
+     * @return left stick x value
+     */
+    public double getLeftStickX() {
+        return leftStickX;
+    }
+
+    /**
+     * Gets the left stick y value
+     * @return left stick y value
+     */
+    public double getLeftStickY() {
+        return leftStickY;
+    }
+
+    /**
+     * Gets the right stick x value
+     * @return right stick x value
+     */
+    public double getRightStickX() {
+        return rightStickX;
+    }
+
+    /**
+     * Gets the right stick y value
+     * @return right stick y value
+     */
+    public double getRightStickY() {
+        return rightStickY;
+    }
+
+    /**
+     * Checks if the left stick movement is engaged
+     * @return true if the left stick movement is engaged
+     */
+    public boolean isLeftStickMovementEngaged() {
+        return (pressed & LEFT_STICK_MOVEMENT) != 0;
+    }
+
+    /**
+     * Checks if the right stick movement is engaged
+     * @return true if the right stick movement is engaged
+     */
+    public boolean isRightStickMovementEngaged() {
+        return (pressed & RIGHT_STICK_MOVEMENT) != 0;
+    }
+
+    /**
+     * Checks if the left stick movement is released
+     * @return true if the left stick movement is released
+     */
+    public boolean isLeftStickMovementReleased() {
+        return (released & LEFT_STICK_MOVEMENT) != 0;
+    }
+
+    /**
+     * Checks if the right stick movement is released
+     * @return true if the right stick movement is released
+     */
+    public boolean isRightStickMovementReleased() {
+        return (released & RIGHT_STICK_MOVEMENT) != 0;
+    }
+
+    /**
+     * Checks if the left stick movement is held
+     * @return true if the left stick movement is held
+     */
+    public boolean isLeftStickMovementHeld() {
+        return (held & LEFT_STICK_MOVEMENT) != 0;
+    }
+
+    /**
+     * Checks if the right stick movement is held
+     * @return true if the right stick movement is held
+     */
+    public boolean isRightStickMovementHeld() {
+        return (held & RIGHT_STICK_MOVEMENT) != 0;
+    }
+
+    //
+    // PREVIOUS AXES
+    //
+
+    public double getPreviousLeftStickX() {
+        return previousLeftStickX;
+    }
+
+    public double getPreviousLeftStickY() {
+        return previousLeftStickY;
+    }
+
+    public double getPreviousRightStickX() {
+        return previousRightStickX;
+    }
+
+    public double getPreviousRightStickY() {
+        return previousRightStickY;
+    }
+
+    public double getPreviousLeftTrigger() {
+        return previousLeftTrigger;
+    }
+
+    public double getPreviousRightTrigger() {
+        return previousRightTrigger;
+    }
+
+    //
+    // WHOLE GAMEPAD
+    //
+
+    /**
+     * Checks if any button is pressed
+     * @return true if any button is pressed
+     */
+    public boolean isAnyButtonPressed() {
+        return (pressed & ANY_BUTTON) != 0;
+    }
+
+    /**
+     * Checks if any button is released
+     * @return true if any button is released
+     */
+    public boolean isAnyButtonReleased() {
+        return (released & ANY_BUTTON) != 0;
+    }
+
+    /**
+     * Checks if any button is held
+     * @return true if any button is held
+     */
+    public boolean isAnyButtonHeld() {
+        return (held & ANY_BUTTON) != 0;
+    }
+}
@@ -0,0 +1,83 @@
+package com.aimrobotics.aimlib.gamepad;
+
+/**
+ * StickShaper class shapes both axes of a stick
+ * A radial deadzone zeroes the stick inside a circle and rescales the distance past it, keeping the direction,
+ * then each axis goes through its own AxisCurve for the axial deadzone and expo
+ */
+public class StickShaper {
+
+    private final double radialDeadzone; // distance from center below which the stick reads 0
+    private final AxisCurve xCurve; // curve of the x axis
+    private final AxisCurve yCurve; // curve of the y axis
+
+    /**
+     * Constructor for StickShaper with the same curve on both axes
+     * @param radialDeadzone distance from center below which the stick reads 0, between 0 and 1
+     * @param curve curve of both axes
+     */
+    public StickShaper(double radialDeadzone, AxisCurve curve) {
+        this(radialDeadzone, curve, curve);
+    }
+
+    /**
+     * Constructor for StickShaper
+     * @param radialDeadzone distance from center below which the stick reads 0, between 0 and 1
+     * @param xCurve curve of the x axis
+     * @param yCurve curve of the y axis
+     */
+    public StickShaper(double radialDeadzone, AxisCurve xCurve, AxisCurve yCurve) {
+        if (radialDeadzone < 0 || radialDeadzone >= 1) {
+            throw new IllegalArgumentException("Radial deadzone must be at least 0 and less than 1");
+        }
+        this.radialDeadzone = radialDeadzone;
+        this.xCurve = xCurve;
+        this.yCurve = yCurve;
+    }
+
+    /**
+     * Shapes a stick
+     * @param x raw x value
+     * @param y raw y value
+     * @param out array that receives the shaped x at index 0 and the shaped y at index 1
+     */
+    public void shape(float x, float y, float[] out) {
+        if (radialDeadzone > 0) {
+            double distance = Math.sqrt((double) x * x + (double) y * y);
+            if (distance <= radialDeadzone) {
+                out[0] = 0;
+                out[1] = 0;
+                return;
+            }
+            double scale = Math.min((distance - radialDeadzone) / (1 - radialDeadzone), 1) / distance;
+            x = (float) (x * scale);
+            y = (float) (y * scale);
+        }
+        out[0] = xCurve.apply(x);
+        out[1] = yCurve.apply(y);
+    }
+
+    /**
+     * Gets the radial deadzone
+     * @return distance from center below which the stick reads 0
+     */
+    public double getRadialDeadzone() {
+        return radialDeadzone;
+    }
+
+    /**
+     * Gets the curve of the x axis
+     * @return x curve
+     */
+    public AxisCurve getXCurve() {
+        return xCurve;
+    }
+
+    /**
+     * Gets the curve of the y axis
+     * @return y curve
+     */
+    public AxisCurve getYCurve() {
+        return yCurve;
+    }
+}
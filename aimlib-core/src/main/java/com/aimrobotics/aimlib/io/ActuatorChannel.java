@@ -0,0 +1,13 @@
+package com.aimrobotics.aimlib.io;
+
+/**
+ * ActuatorChannel interface is one value written to the hardware by an IoExecutor, such as a servo position or a motor power
+ */
+public interface ActuatorChannel {
+
+    /**
+     * Writes the value to the hardware. Called on the I/O thread
+     * @param value value to write
+     */
+    void write(double value);
+}
@@ -0,0 +1,47 @@
+package com.aimrobotics.aimlib.io;
+
+import java.util.Arrays;
+
+/**
+ * CommandFrame class holds one command for every actuator channel of an IoExecutor
+ * A channel holding NaN has not been commanded and is not written
+ */
+public class CommandFrame {
+
+    final double[] values; // command of each actuator channel, NaN for none
+    long sequence = 0; // number of the submit that filled the frame
+
+    /**
+     * Constructor for CommandFrame
+     * @param channels number of actuator channels
+     */
+    public CommandFrame(int channels) {
+        this.values = new double[channels];
+        Arrays.fill(values, Double.NaN);
+    }
+
+    /**
+     * Gets the command of an actuator channel
+     * @param channel index returned when the channel was added
+     * @return command of the channel, NaN for none
+     */
+    public double getValue(int channel) {
+        return values[channel];
+    }
+
+    /**
+     * Gets the number of the submit that filled the frame
+     * @return submit number
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the number of actuator channels
+     * @return number of channels
+     */
+    public int size() {
+        return values.length;
+    }
+}
@@ -0,0 +1,565 @@
+package com.aimrobotics.aimlib.io;
+
+import com.aimrobotics.aimlib.control.SystemTimeSource;
+import com.aimrobotics.aimlib.control.TimeSource;
+import com.aimrobotics.aimlib.util.HardwareInterface;
+import com.aimrobotics.aimlib.util.LoopTimeHistogram;
+import com.aimrobotics.aimlib.util.WritePolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * IoExecutor class owns every hardware read and write so the control math does not wait on the hubs
+ * Each I/O cycle writes the newest submitted commands, reads every sensor and publishes the readings,
+ * both handed across threads through TripleBuffers, so the I/O for one tick runs while the control thread computes the next
+ * Without start the same cycle can be run inline with runCycle, which is the serial fallback and the way to test off the robot
+ * Channels are grouped by hub. With parallel hubs on, a worker thread runs the Expansion Hub while the cycling thread runs the
+ * Control Hub, so a cycle takes as long as the slower hub instead of both hubs added together, with or without the I/O thread
+ * Commands are written through a WriteCache per hub, so unchanged values are skipped but still resent on its resend interval
+ * The I/O thread runs a cycle as soon as commands are submitted, and otherwise waits up to the idle period before refreshing the sensors
+ * Channels are added before the first cycle, after that no call allocates
+ */
+public class IoExecutor {
+
+    public static final double DEFAULT_IDLE_PERIOD = 0.005; // default seconds the I/O thread waits for new commands between cycles
+    public static final int CONTROL_HUB = 0; // index of the Control Hub
+    public static final int EXPANSION_HUB = 1; // index of the Expansion Hub
+
+    /**
+     * HubPartition holds the channels of one hub and the time its I/O takes
+     */
+    private static class HubPartition {
+        final List<SensorChannel> sensorList = new ArrayList<>(); // sensors on the hub
+        final List<Integer> sensorIndexList = new ArrayList<>(); // frame index of each sensor
+        final List<ActuatorChannel> actuatorList = new ArrayList<>(); // actuators on the hub
+        final List<Integer> actuatorIndexList = new ArrayList<>(); // command index of each actuator
+        final LoopTimeHistogram histogram = new LoopTimeHistogram(); // time of the hub's I/O each cycle
+
+        SensorChannel[] sensors; // sensors on the hub
+        int[] sensorIndices; // frame index of each sensor
+        ActuatorChannel[] actuators; // actuators on the hub
+        int[] actuatorIndices; // command index of each actuator
+        WriteCache writeCache; // skips repeated writes to each actuator
+        long lastWrites = 0; // number of writes sent in the last cycle
+        volatile long lastNanos = 0; // time of the hub's I/O in the last cycle
+
+        void prepare(WritePolicy writePolicy) {
+            sensors = sensorList.toArray(new SensorChannel[0]);
+            actuators = actuatorList.toArray(new ActuatorChannel[0]);
+            sensorIndices = new int[sensors.length];
+            for (int i = 0; i < sensors.length; i++) {
+                sensorIndices[i] = sensorIndexList.get(i);
+            }
+            actuatorIndices = new int[actuators.length];
+            for (int i = 0; i < actuators.length; i++) {
+                actuatorIndices[i] = actuatorIndexList.get(i);
+            }
+            writeCache = new WriteCache(actuators.length);
+            writeCache.setPolicy(writePolicy);
+        }
+
+        boolean hasChannels() {
+            return sensors.length > 0 || actuators.length > 0;
+        }
+
+        /**
+         * Writes the commands of the hub that are changed or due for a resend, then reads its sensors
+         * @param commands commands of every actuator, NaN for none
+         * @param readings readings of every sensor, filled at this hub's indices
+         * @param timeSource source of the timestamps
+         */
+        void run(double[] commands, double[] readings, TimeSource timeSource) {
+            long start = timeSource.nanoTime();
+            long writes = 0;
+            for (int i = 0; i < actuators.length; i++) {
+                double command = commands[actuatorIndices[i]];
+                if (writeCache.shouldWrite(i, command, start)) {
+                    actuators[i].write(command);
+                    writes++;
+                }
+            }
+            for (int i = 0; i < sensors.length; i++) {
+                readings[sensorIndices[i]] = sensors[i].read();
+            }
+            lastWrites = writes;
+            long nanos = timeSource.nanoTime() - start;
+            histogram.record(nanos);
+            lastNanos = nanos;
+        }
+    }
+
+    private final TimeSource timeSource; // source of the sensor frame timestamps
+    private final HubPartition[] hubs = {new HubPartition(), new HubPartition()}; // channels of each hub
+    private int sensorCount = 0; // number of sensors on both hubs
+    private int actuatorCount = 0; // number of actuators on both hubs
+    private volatile boolean prepared = false; // have the channel arrays and frames been built
+
+    private WritePolicy writePolicy = WritePolicy.DEFAULT; // when actuator commands are written
+    private volatile long idlePeriodNanos = (long) (DEFAULT_IDLE_PERIOD * 1e9); // longest wait for new commands between cycles
+    private double[] staged; // commands set since the last submit, control side only
+    private TripleBuffer<SensorFrame> sensorBuffer; // readings from the I/O side to the control side
+    private TripleBuffer<CommandFrame> commandBuffer; // commands from the control side to the I/O side
+    private Runnable cycleStartTask; // task run at the start of each cycle, null for none
+
+    private volatile Thread thread; // I/O thread, null when not started
+    private volatile boolean running = false; // should the I/O thread keep cycling
+    private volatile Throwable failure; // exception that stopped the I/O thread, null for none
+    private volatile long cycleCount = 0; // number of I/O cycles run
+    private volatile long lastCycleNanos = 0; // duration of the last I/O cycle in nanoseconds
+    private volatile long writeCount = 0; // number of actuator writes sent
+    private final LoopTimeHistogram cycleHistogram = new LoopTimeHistogram(); // duration of each I/O cycle
+    private long submitCount = 0; // number of command frames submitted, control side only
+
+    private volatile boolean parallelHubs = false; // run the Expansion Hub on the hub worker while the Control Hub runs
+    private volatile Thread hubWorker; // thread running the Expansion Hub, null when not started
+    private volatile boolean hubWorkerRunning = false; // should the hub worker keep running
+    private volatile Thread hubCaller; // thread of the current cycle, waiting on the hub worker
+    private volatile long hubRequested = 0; // number of cycles handed to the hub worker
+    private volatile long hubCompleted = 0; // number of cycles the hub worker finished
+    private volatile Throwable hubFailure; // exception thrown by the hub worker, null for none
+    private double[] hubCommands; // commands of the cycle handed to the hub worker
+    private double[] hubReadings; // readings of the cycle handed to the hub worker
+
+    /**
+     * Constructor for IoExecutor on real time
+     */
+    public IoExecutor() {
+        this(new SystemTimeSource());
+    }
+
+    /**
+     * Constructor for IoExecutor
+     * @param timeSource source of the sensor frame timestamps
+     */
+    public IoExecutor(TimeSource timeSource) {
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * Adds a sensor on the Control Hub read every cycle
+     * @param sensor sensor to read
+     * @return channel index of the sensor in the sensor frames
+     */
+    public int addSensor(SensorChannel sensor) {
+        return addSensor(sensor, false);
+    }
+
+    /**
+     * Adds a sensor read every cycle on the hub of a device
+     * @param sensor sensor to read
+     * @param device hub and port of the device
+     * @return channel index of the sensor in the sensor frames
+     */
+    public int addSensor(SensorChannel sensor, HardwareInterface device) {
+        return addSensor(sensor, device.isExpansionHub());
+    }
+
+    /**
+     * Adds a sensor read every cycle
+     * @param sensor sensor to read
+     * @param isExpansionHub true if the sensor is on the Expansion Hub
+     * @return channel index of the sensor in the sensor frames
+     */
+    public int addSensor(SensorChannel sensor, boolean isExpansionHub) {
+        checkNotPrepared();
+        HubPartition hub = hubs[isExpansionHub ? EXPANSION_HUB : CONTROL_HUB];
+        hub.sensorList.add(sensor);
+        hub.sensorIndexList.add(sensorCount);
+        return sensorCount++;
+    }
+
+    /**
+     * Adds an actuator on the Control Hub written when its command changes or its resend interval passes
+     * @param actuator actuator to write
+     * @return channel index of the actuator for setCommand
+     */
+    public int addActuator(ActuatorChannel actuator) {
+        return addActuator(actuator, false);
+    }
+
+    /**
+     * Adds an actuator written when its command changes or its resend interval passes, on the hub of a device
+     * @param actuator actuator to write
+     * @param device hub and port of the device
+     * @return channel index of the actuator for setCommand
+     */
+    public int addActuator(ActuatorChannel actuator, HardwareInterface device) {
+        return addActuator(actuator, device.isExpansionHub());
+    }
+
+    /**
+     * Adds an actuator written when its command changes or its resend interval passes
+     * @param actuator actuator to write
+     * @param isExpansionHub true if the actuator is on the Expansion Hub
+     * @return channel index of the actuator for setCommand
+     */
+    public int addActuator(ActuatorChannel actuator, boolean isExpansionHub) {
+        checkNotPrepared();
+        HubPartition hub = hubs[isExpansionHub ? EXPANSION_HUB : CONTROL_HUB];
+        hub.actuatorList.add(actuator);
+        hub.actuatorIndexList.add(actuatorCount);
+        return actuatorCount++;
+    }
+
+    /**
+     * Sets a task run at the start of each cycle on the cycling thread, such as clearing a bulk read cache
+     * @param cycleStartTask task to run, or null for none
+     */
+    public void setCycleStartTask(Runnable cycleStartTask) {
+        this.cycleStartTask = cycleStartTask;
+    }
+
+    /**
+     * Sets when actuator commands are written, the same policy as CachedActuator
+     * @param epsilon change required before a new value is sent
+     * @param resendInterval seconds before an unchanged value is sent again, 0 to never resend
+     */
+    public synchronized void setWritePolicy(double epsilon, double resendInterval) {
+        writePolicy = new WritePolicy(epsilon, resendInterval);
+        if (prepared) {
+            for (HubPartition hub : hubs) {
+                hub.writeCache.setPolicy(writePolicy);
+            }
+        }
+    }
+
+    /**
+     * Sends every actuator's command again on the next cycle, such as after a hub reset
+     */
+    public void invalidateWrites() {
+        if (!prepared) {
+            prepare();
+        }
+        for (HubPartition hub : hubs) {
+            hub.writeCache.invalidate();
+        }
+    }
+
+    /**
+     * Sets the longest time the I/O thread waits for new commands before running a cycle to refresh the sensors
+     * @param idlePeriod seconds to wait, 0 to cycle without waiting
+     */
+    public void setIdlePeriod(double idlePeriod) {
+        if (idlePeriod < 0) {
+            throw new IllegalArgumentException("Idle period must not be negative");
+        }
+        this.idlePeriodNanos = (long) (idlePeriod * 1e9);
+    }
+
+    /**
+     * Sets whether each cycle runs the two hubs at the same time, the Expansion Hub on a worker thread
+     * Applies to cycles on the I/O thread and to runCycle alike. The worker starts with the next cycle and ends with stop
+     * Sensors on different hubs must not share unsynchronized state other than a BulkReadCache, which keeps each hub apart
+     * @param parallelHubs true to run the hubs at the same time
+     */
+    public synchronized void setParallelHubs(boolean parallelHubs) {
+        this.parallelHubs = parallelHubs;
+        if (parallelHubs && thread != null) {
+            startHubWorker();
+        }
+    }
+
+    private void checkNotPrepared() {
+        if (prepared) {
+            throw new IllegalStateException("Channels must be added before the first I/O cycle");
+        }
+    }
+
+    /**
+     * Builds the channel arrays and frames, called before the first cycle
+     */
+    private synchronized void prepare() {
+        if (prepared) {
+            return;
+        }
+        for (HubPartition hub : hubs) {
+            hub.prepare(writePolicy);
+        }
+        staged = new double[actuatorCount];
+        Arrays.fill(staged, Double.NaN);
+        sensorBuffer = new TripleBuffer<>(new SensorFrame(sensorCount), new SensorFrame(sensorCount), new SensorFrame(sensorCount));
+        commandBuffer = new TripleBuffer<>(new CommandFrame(actuatorCount), new CommandFrame(actuatorCount), new CommandFrame(actuatorCount));
+        prepared = true;
+    }
+
+    /**
+     * Starts the I/O thread, and the hub worker if parallel hubs are on
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        prepare();
+        if (parallelHubs) {
+            startHubWorker();
+        }
+        failure = null;
+        running = true;
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (running) {
+                        if (!cycle() && idlePeriodNanos > 0) {
+                            LockSupport.parkNanos(this, idlePeriodNanos);
+                        }
+                    }
+                } catch (Throwable t) {
+                    failure = t;
+                    running = false;
+                }
+            }
+        }, "AIMLib I/O");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Starts the worker thread that runs the Expansion Hub, if it is not running
+     */
+    private synchronized void startHubWorker() {
+        if (hubWorker != null) {
+            return;
+        }
+        hubFailure = null;
+        hubWorkerRunning = true;
+        hubWorker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                long handled = hubCompleted;
+                while (hubWorkerRunning) {
+                    if (hubRequested == handled) {
+                        LockSupport.park(this);
+                        continue;
+                    }
+                    try {
+                        hubs[EXPANSION_HUB].run(hubCommands, hubReadings, timeSource);
+                    } catch (Throwable t) {
+                        hubFailure = t;
+                    }
+                    handled++;
+                    hubCompleted = handled;
+                    LockSupport.unpark(hubCaller);
+                }
+            }
+        }, "AIMLib Expansion Hub I/O");
+        hubWorker.setDaemon(true);
+        hubWorker.start();
+    }
+
+    /**
+     * Stops the I/O thread after its current cycle and the hub worker, and waits for both to finish
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public synchronized void stop() throws InterruptedException {
+        if (thread != null) {
+            running = false;
+            LockSupport.unpark(thread);
+            thread.join();
+            thread = null;
+        }
+        if (hubWorker != null) {
+            hubWorkerRunning = false;
+            LockSupport.unpark(hubWorker);
+            hubWorker.join();
+            hubWorker = null;
+        }
+    }
+
+    /**
+     * Runs one I/O cycle on the calling thread. Only while the I/O thread is stopped
+     */
+    public void runCycle() {
+        if (thread != null) {
+            throw new IllegalStateException("I/O thread is running");
+        }
+        prepare();
+        if (parallelHubs) {
+            startHubWorker();
+        }
+        cycle();
+    }
+
+    /**
+     * Writes the newest commands that are changed or due for a resend, then reads every sensor and publishes the readings
+     * @return true if new commands had been submitted since the last cycle
+     */
+    private boolean cycle() {
+        long start = timeSource.nanoTime();
+        if (cycleStartTask != null) {
+            cycleStartTask.run();
+        }
+        boolean hasNewCommands = commandBuffer.update();
+        double[] commands = commandBuffer.getReadFrame().values;
+        SensorFrame frame = sensorBuffer.getWriteFrame();
+        Thread worker = hubWorker;
+        if (parallelHubs && worker != null && hubs[EXPANSION_HUB].hasChannels()) {
+            runHubsInParallel(worker, commands, frame.values);
+        } else {
+            hubs[CONTROL_HUB].run(commands, frame.values, timeSource);
+            hubs[EXPANSION_HUB].run(commands, frame.values, timeSource);
+        }
+        writeCount += hubs[CONTROL_HUB].lastWrites + hubs[EXPANSION_HUB].lastWrites;
+        long end = timeSource.nanoTime();
+        frame.timestamp = end;
+        frame.sequence = cycleCount + 1;
+        sensorBuffer.publish();
+        cycleCount = frame.sequence;
+        lastCycleNanos = end - start;
+        cycleHistogram.record(lastCycleNanos);
+        return hasNewCommands;
+    }
+
+    /**
+     * Hands the Expansion Hub to the hub worker, runs the Control Hub, and waits for the worker to finish
+     * @param worker hub worker thread
+     * @param commands commands of every actuator
+     * @param readings readings of every sensor to fill
+     */
+    private void runHubsInParallel(Thread worker, double[] commands, double[] readings) {
+        hubCommands = commands;
+        hubReadings = readings;
+        hubCaller = Thread.currentThread();
+        long ticket = hubRequested + 1;
+        hubRequested = ticket;
+        LockSupport.unpark(worker);
+        hubs[CONTROL_HUB].run(commands, readings, timeSource);
+        while (hubCompleted != ticket) {
+            LockSupport.park(this);
+        }
+        Throwable error = hubFailure;
+        if (error != null) {
+            hubFailure = null;
+            throw new IllegalStateException("Expansion Hub I/O failed", error);
+        }
+    }
+
+    /**
+     * Gets the newest sensor frame. Control thread only
+     * The frame stays valid until the next call
+     * @return newest readings, with sequence 0 before the first cycle
+     */
+    public SensorFrame getSensorFrame() {
+        if (!prepared) {
+            prepare();
+        }
+        sensorBuffer.update();
+        return sensorBuffer.getReadFrame();
+    }
+
+    /**
+     * Sets the command of an actuator for the next submit. Control thread only
+     * Commands stay set across submits until changed
+     * @param channel index returned when the actuator was added
+     * @param value value to write
+     */
+    public void setCommand(int channel, double value) {
+        if (!prepared) {
+            prepare();
+        }
+        staged[channel] = value;
+    }
+
+    /**
+     * Hands the commands set so far to the I/O side. Control thread only
+     * Commands submitted again before the I/O side takes them replace the earlier ones
+     */
+    public void submitCommands() {
+        if (!prepared) {
+            prepare();
+        }
+        CommandFrame frame = commandBuffer.getWriteFrame();
+        System.arraycopy(staged, 0, frame.values, 0, staged.length);
+        frame.sequence = ++submitCount;
+        commandBuffer.publish();
+        Thread ioThread = thread;
+        if (ioThread != null) {
+            LockSupport.unpark(ioThread);
+        }
+    }
+
+    /**
+     * Checks if the I/O thread is running
+     * @return true if running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Checks if cycles run the hubs at the same time
+     * @return true if parallel hubs are on and the hub worker is started
+     */
+    public boolean isParallelHubs() {
+        return parallelHubs && hubWorker != null;
+    }
+
+    /**
+     * Gets the exception that stopped the I/O thread
+     * @return exception thrown by a channel, or null for none
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Gets the number of I/O cycles run
+     * @return number of cycles
+     */
+    public long getCycleCount() {
+        return cycleCount;
+    }
+
+    /**
+     * Gets the duration of the last I/O cycle
+     * @return duration in seconds
+     */
+    public double getLastCycleTime() {
+        return lastCycleNanos / 1e9;
+    }
+
+    /**
+     * Gets the histogram of the duration of each I/O cycle, recorded on the cycling thread
+     * @return histogram of the cycles
+     */
+    public LoopTimeHistogram getCycleHistogram() {
+        return cycleHistogram;
+    }
+
+    /**
+     * Gets the time of one hub's I/O in the last cycle
+     * @param hub CONTROL_HUB or EXPANSION_HUB
+     * @return time in seconds
+     */
+    public double getLastHubTime(int hub) {
+        return hubs[hub].lastNanos / 1e9;
+    }
+
+    /**
+     * Gets the histogram of one hub's I/O time per cycle, recorded on the thread running the hub
+     * @param hub CONTROL_HUB or EXPANSION_HUB
+     * @return histogram of the hub
+     */
+    public LoopTimeHistogram getHubHistogram(int hub) {
+        return hubs[hub].histogram;
+    }
+
+    /**
+     * Gets the number of actuator writes sent, skipped repeats are not counted
+     * @return number of writes
+     */
+    public long getWriteCount() {
+        return writeCount;
+    }
+
+    public int getSensorCount() {
+        return sensorCount;
+    }
+
+    public int getActuatorCount() {
+        return actuatorCount;
+    }
+}
@@ -0,0 +1,13 @@
+package com.aimrobotics.aimlib.io;
+
+/**
+ * SensorChannel interface is one value read from the hardware by an IoExecutor, such as an encoder position
+ */
+public interface SensorChannel {
+
+    /**
+     * Reads the value from the hardware. Called on the I/O thread
+     * @return value read
+     */
+    double read();
+}
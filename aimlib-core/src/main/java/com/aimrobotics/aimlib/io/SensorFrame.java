@@ -0,0 +1,52 @@
+package com.aimrobotics.aimlib.io;
+
+/**
+ * SensorFrame class holds one reading of every sensor channel of an IoExecutor
+ */
+public class SensorFrame {
+
+    final double[] values; // reading of each sensor channel
+    long timestamp = 0; // time the reading finished in nanoseconds
+    long sequence = 0; // number of the I/O cycle that took the reading, 0 before the first
+
+    /**
+     * Constructor for SensorFrame
+     * @param channels number of sensor channels
+     */
+    public SensorFrame(int channels) {
+        this.values = new double[channels];
+    }
+
+    /**
+     * Gets the reading of a sensor channel
+     * @param channel index returned when the channel was added
+     * @return reading of the channel
+     */
+    public double getValue(int channel) {
+        return values[channel];
+    }
+
+    /**
+     * Gets the time the reading finished
+     * @return timestamp in nanoseconds
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets the number of the I/O cycle that took the reading
+     * @return cycle number, 0 before the first reading
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Gets the number of sensor channels
+     * @return number of channels
+     */
+    public int size() {
+        return values.length;
+    }
+}
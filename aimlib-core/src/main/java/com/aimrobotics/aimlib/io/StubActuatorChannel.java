@@ -0,0 +1,39 @@
+package com.aimrobotics.aimlib.io;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * StubActuatorChannel class is an actuator for running an IoExecutor off the robot
+ * Each write waits for a set latency, like a hub transaction, and keeps the value written
+ */
+public class StubActuatorChannel implements ActuatorChannel {
+
+    private final long latencyNanos; // time each write takes in nanoseconds
+    private volatile double value = Double.NaN; // value last written, NaN before the first write
+    private volatile long writeCount = 0; // number of writes
+
+    /**
+     * Constructor for StubActuatorChannel
+     * @param latencySeconds time each write takes
+     */
+    public StubActuatorChannel(double latencySeconds) {
+        this.latencyNanos = (long) (latencySeconds * 1e9);
+    }
+
+    @Override
+    public void write(double value) {
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+        this.value = value;
+        writeCount++;
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    public long getWriteCount() {
+        return writeCount;
+    }
+}
@@ -0,0 +1,43 @@
+package com.aimrobotics.aimlib.io;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * StubSensorChannel class is a sensor for running an IoExecutor off the robot
+ * Each read waits for a set latency, like a hub transaction, and returns the value last set
+ */
+public class StubSensorChannel implements SensorChannel {
+
+    private final long latencyNanos; // time each read takes in nanoseconds
+    private volatile double value = 0; // value returned by reads
+    private volatile long readCount = 0; // number of reads
+
+    /**
+     * Constructor for StubSensorChannel
+     * @param latencySeconds time each read takes
+     */
+    public StubSensorChannel(double latencySeconds) {
+        this.latencyNanos = (long) (latencySeconds * 1e9);
+    }
+
+    @Override
+    public double read() {
+        if (latencyNanos > 0) {
+            LockSupport.parkNanos(latencyNanos);
+        }
+        readCount++;
+        return value;
+    }
+
+    /**
+     * Sets the value returned by reads
+     * @param value value to return
+     */
+    public void setValue(double value) {
+        this.value = value;
+    }
+
+    public long getReadCount() {
+        return readCount;
+    }
+}
@@ -0,0 +1,68 @@
+package com.aimrobotics.aimlib.io;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TripleBuffer class hands the newest of a stream of frames from one producer thread to one consumer thread without locks
+ * The producer fills its back frame and publishes it by swapping it with the middle frame,
+ * the consumer swaps its front frame with the middle frame when a newer one is waiting
+ * Neither side ever waits for the other and no frames are allocated after construction, older unread frames are dropped
+ */
+public class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 3; // bits of the state holding the middle index
+    private static final int FRESH = 4; // bit of the state set when the middle frame has not been read
+
+    private final Object[] frames; // the three frames
+    private final AtomicInteger middle; // index of the middle frame with the fresh bit
+    private int back = 0; // index of the frame the producer writes, producer thread only
+    private int front = 2; // index of the frame the consumer reads, consumer thread only
+
+    /**
+     * Constructor for TripleBuffer
+     * @param back first frame, the producer's first back frame
+     * @param middle second frame
+     * @param front third frame, what the consumer reads before anything is published
+     */
+    public TripleBuffer(T back, T middle, T front) {
+        this.frames = new Object[] {back, middle, front};
+        this.middle = new AtomicInteger(1);
+    }
+
+    /**
+     * Gets the frame to fill. Producer thread only
+     * @return back frame
+     */
+    @SuppressWarnings("unchecked")
+    public T getWriteFrame() {
+        return (T) frames[back];
+    }
+
+    /**
+     * Publishes the back frame and takes a new back frame. Producer thread only
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Takes the newest published frame if one is waiting. Consumer thread only
+     * @return true if a new frame was taken
+     */
+    public boolean update() {
+        if ((middle.get() & FRESH) == 0) {
+            return false;
+        }
+        front = middle.getAndSet(front) & INDEX_MASK;
+        return true;
+    }
+
+    /**
+     * Gets the frame taken by the last update. Consumer thread only
+     * @return front frame
+     */
+    @SuppressWarnings("unchecked")
+    public T getReadFrame() {
+        return (T) frames[front];
+    }
+}
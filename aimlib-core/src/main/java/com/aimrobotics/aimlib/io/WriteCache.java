@@ -0,0 +1,72 @@
+package com.aimrobotics.aimlib.io;
+
+import com.aimrobotics.aimlib.util.WritePolicy;
+
+import java.util.Arrays;
+
+/**
+ * WriteCache class skips actuator writes that would not change the output, for a fixed set of actuator channels
+ * Writes follow a WritePolicy, the same one CachedActuator uses, so an actuator that lost its command gets it back on a resend
+ */
+public class WriteCache {
+
+    private final double[] lastSentValues; // value last sent to each channel
+    private final long[] lastSentTimes; // time of the last write to each channel in nanoseconds
+    private final boolean[] hasSent; // has a value been sent to each channel since construction or invalidation
+
+    private volatile WritePolicy policy = WritePolicy.DEFAULT; // when a new value is sent
+    private volatile boolean invalidated = false; // should every channel be written on the next check
+
+    /**
+     * Constructor for WriteCache
+     * @param channels number of actuator channels
+     */
+    public WriteCache(int channels) {
+        lastSentValues = new double[channels];
+        lastSentTimes = new long[channels];
+        hasSent = new boolean[channels];
+    }
+
+    /**
+     * Checks if a command should be written, and records it as sent if so. Writing thread only
+     * @param channel index of the channel
+     * @param value command of the channel, NaN for none
+     * @param now current time in nanoseconds
+     * @return true if the command should be written
+     */
+    public boolean shouldWrite(int channel, double value, long now) {
+        if (invalidated) {
+            invalidated = false;
+            Arrays.fill(hasSent, false);
+        }
+        if (Double.isNaN(value)) {
+            return false;
+        }
+        if (!policy.shouldWrite(hasSent[channel], lastSentValues[channel], lastSentTimes[channel], value, now)) {
+            return false;
+        }
+        hasSent[channel] = true;
+        lastSentValues[channel] = value;
+        lastSentTimes[channel] = now;
+        return true;
+    }
+
+    /**
+     * Sets when a command is written. Safe from any thread
+     * @param policy when a new value is sent
+     */
+    public void setPolicy(WritePolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Forgets the values sent so that the next command of every channel is written. Safe from any thread
+     */
+    public void invalidate() {
+        invalidated = true;
+    }
+
+    public WritePolicy getPolicy() {
+        return policy;
+    }
+}
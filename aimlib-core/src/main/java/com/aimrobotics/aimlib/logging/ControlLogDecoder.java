@@ -0,0 +1,112 @@
+package com.aimrobotics.aimlib.logging;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Locale;
+
+/**
+ * ControlLogDecoder class converts a log written by ControlLogger into CSV, one row per record
+ * Only the records committed in the header are read, so a log left unstopped decodes without the zeroed padding of its last chunk
+ * Run on a computer with java -cp aimlib-core.jar com.aimrobotics.aimlib.logging.ControlLogDecoder log.bin [log.csv]
+ */
+public class ControlLogDecoder {
+
+    public static final String CSV_HEADER = "time,channel,target,state,error,p,i,d,feedforward,output"; // columns of the CSV
+
+    private ControlLogDecoder() { }
+
+    /**
+     * Converts a log to CSV, writing next to the log unless an output is given
+     * @param args path of the log, then optionally the path of the CSV
+     * @throws IOException if the log can not be read or the CSV written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ControlLogDecoder <log> [csv]");
+            System.exit(1);
+        }
+        File log = new File(args[0]);
+        File csv = new File(args.length > 1 ? args[1] : args[0] + ".csv");
+        long records = decode(log, csv);
+        System.out.println("Wrote " + records + " records to " + csv);
+    }
+
+    /**
+     * Converts a log to CSV. Time is in seconds from the first record
+     * @param log log written by ControlLogger
+     * @param csv CSV to write, replaced if it exists
+     * @return number of records converted
+     * @throws IOException if the log can not be read or the CSV written
+     */
+    public static long decode(File log, File csv) throws IOException {
+        Charset utf8 = Charset.forName("UTF-8");
+        RandomAccessFile randomAccessFile = new RandomAccessFile(log, "r");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(csv), utf8));
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.remaining() < ControlLogger.COUNT_OFFSET + 8 || buffer.getInt() != ControlLogger.MAGIC) {
+                throw new IOException("Not a control log: " + log);
+            }
+            int version = buffer.getInt();
+            int recordSize = buffer.getInt();
+            if (version != ControlLogger.VERSION || recordSize != ControlLogger.RECORD_SIZE) {
+                throw new IOException("Unsupported control log version " + version);
+            }
+            String[] names = new String[buffer.getInt()];
+            long committed = buffer.getLong();
+            for (int i = 0; i < names.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                names[i] = escape(new String(bytes, utf8));
+            }
+
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            long records = 0;
+            long startTime = 0;
+            while (records < committed && buffer.remaining() >= recordSize) {
+                long timestamp = buffer.getLong();
+                int channelIndex = buffer.getInt();
+                if (records == 0) {
+                    startTime = timestamp;
+                }
+                writer.write(String.format(Locale.US, "%.6f", (timestamp - startTime) / 1e9));
+                writer.write(',');
+                writer.write(channelIndex >= 0 && channelIndex < names.length ? names[channelIndex] : Integer.toString(channelIndex));
+                for (int field = 0; field < ControlLogger.FIELDS; field++) {
+                    writer.write(',');
+                    writer.write(Float.toString(buffer.getFloat()));
+                }
+                writer.write('\n');
+                records++;
+            }
+            return records;
+        } finally {
+            writer.close();
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * Quotes a CSV field if it holds a comma, quote or line break
+     * @param field field to write
+     * @return field safe to write into a row
+     */
+    private static String escape(String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,306 @@
+package com.aimrobotics.aimlib.logging;
+
+import com.aimrobotics.aimlib.control.PIDController;
+import com.aimrobotics.aimlib.control.SimpleControlSystem;
+import com.aimrobotics.aimlib.control.SystemTimeSource;
+import com.aimrobotics.aimlib.control.TimeSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ControlLogger class records the signals of control systems at full loop rate into a preallocated ring buffer
+ * A background thread drains the ring into a binary file through memory mapped chunks, ControlLogDecoder turns the file into CSV
+ * record only writes primitives into the ring and never waits, when the ring is full the record is dropped and counted
+ * Channels are added before start, and records come from one thread, the loop
+ * The header holds the number of records committed to the file, updated after each drain, so a log cut off
+ * before stop still decodes to only the records written and not the zeroed rest of the mapped chunk
+ */
+public class ControlLogger {
+
+    public static final int MAGIC = 0x41494D4C; // "AIML", marks a control log
+    public static final int VERSION = 2; // format version of the log
+    public static final int FIELDS = 8; // signals per record: target, state, error, p, i, d, feedforward, output
+    public static final int RECORD_SIZE = 8 + 4 + FIELDS * 4; // timestamp, channel and the signals as floats
+    public static final int DEFAULT_CAPACITY = 8192; // records held in the ring
+
+    static final int COUNT_OFFSET = 16; // file offset of the committed record count in the header
+    private static final int CHUNK_SIZE = 1 << 20; // bytes of the file mapped at a time
+    private static final long IDLE_PARK_NANOS = 5_000_000; // wait of the flush thread when the ring is empty
+
+    private final File file; // file being written
+    private final TimeSource timeSource; // source of the record timestamps
+    private final int capacity; // records held in the ring
+    private final List<String> names = new ArrayList<>(); // name of each channel
+    private final List<SimpleControlSystem> systems = new ArrayList<>(); // control system of each channel, null for manual channels
+
+    private final long[] timestamps; // ring of record timestamps
+    private final int[] channels; // ring of record channels
+    private final float[] values; // ring of record signals, FIELDS per record
+    private final AtomicLong head = new AtomicLong(); // records written by the loop
+    private final AtomicLong tail = new AtomicLong(); // records drained by the flush thread
+    private volatile long droppedCount = 0; // records dropped while the ring was full
+
+    private SimpleControlSystem[] systemArray; // control system of each channel, built on start
+    private Thread thread; // flush thread, null when not started
+    private volatile boolean running = false; // should the flush thread keep draining
+    private volatile IOException failure; // error that stopped the flush thread, null for none
+
+    private RandomAccessFile randomAccessFile; // file being written, flush thread only after start
+    private FileChannel fileChannel; // channel of the file, flush thread only after start
+    private MappedByteBuffer header; // mapped header holding the committed record count, flush thread only after start
+    private MappedByteBuffer chunk; // mapped chunk being written, flush thread only after start
+    private long fileSize = 0; // bytes written to the file
+
+    /**
+     * Constructor for ControlLogger on real time with the default capacity
+     * @param file file to write, replaced if it exists
+     */
+    public ControlLogger(File file) {
+        this(file, DEFAULT_CAPACITY, new SystemTimeSource());
+    }
+
+    /**
+     * Constructor for ControlLogger
+     * @param file file to write, replaced if it exists
+     * @param capacity records held in the ring
+     * @param timeSource source of the record timestamps
+     */
+    public ControlLogger(File file, int capacity, TimeSource timeSource) {
+        this.file = file;
+        this.capacity = capacity;
+        this.timeSource = timeSource;
+        this.timestamps = new long[capacity];
+        this.channels = new int[capacity];
+        this.values = new float[capacity * FIELDS];
+    }
+
+    /**
+     * Adds a channel recorded from a control system
+     * @param name name of the channel in the log
+     * @param system control system to record
+     * @return channel index for record
+     */
+    public int addChannel(String name, SimpleControlSystem system) {
+        if (thread != null) {
+            throw new IllegalStateException("Channels must be added before the logger starts");
+        }
+        names.add(name);
+        systems.add(system);
+        return names.size() - 1;
+    }
+
+    /**
+     * Adds a channel whose signals are given to record directly
+     * @param name name of the channel in the log
+     * @return channel index for record
+     */
+    public int addChannel(String name) {
+        return addChannel(name, null);
+    }
+
+    /**
+     * Opens the file, writes the header and starts the flush thread
+     * @throws IOException if the file can not be written
+     */
+    public synchronized void start() throws IOException {
+        if (thread != null) {
+            return;
+        }
+        systemArray = systems.toArray(new SimpleControlSystem[0]);
+        randomAccessFile = new RandomAccessFile(file, "rw");
+        randomAccessFile.setLength(0);
+        fileChannel = randomAccessFile.getChannel();
+        writeHeader();
+        mapChunk(fileSize);
+        running = true;
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (running) {
+                        if (drain() == 0) {
+                            LockSupport.parkNanos(IDLE_PARK_NANOS);
+                        }
+                    }
+                    drain();
+                } catch (IOException e) {
+                    failure = e;
+                    running = false;
+                }
+            }
+        }, "AIMLib Control Logger");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Records the last update of a control system channel
+     * @param channel index returned when the channel was added
+     * @return true if recorded, false if the ring was full
+     */
+    public boolean record(int channel) {
+        if (systemArray == null) {
+            throw new IllegalStateException("Logger must be started before recording control system channels");
+        }
+        SimpleControlSystem system = systemArray[channel];
+        if (system == null) {
+            throw new IllegalArgumentException("Channel " + channel + " was added without a control system, record its signals directly");
+        }
+        PIDController pid = system.getPIDController();
+        return record(channel, system.getTarget(), system.getLastState(),
+                pid.getLastProportionalTerm(), pid.getLastIntegralTerm(), pid.getLastDerivativeTerm(),
+                system.getLastFeedforward(), system.getLastOutput());
+    }
+
+    /**
+     * Records signals of a channel
+     * @param channel index returned when the channel was added
+     * @param target target of the loop
+     * @param state measured state of the loop
+     * @param proportional proportional term
+     * @param integral integral term
+     * @param derivative derivative term
+     * @param feedforward feedforward term
+     * @param output output of the loop
+     * @return true if recorded, false if the ring was full
+     */
+    public boolean record(int channel, double target, double state, double proportional, double integral,
+                          double derivative, double feedforward, double output) {
+        long written = head.get();
+        if (written - tail.get() >= capacity) {
+            droppedCount++;
+            return false;
+        }
+        int slot = (int) (written % capacity);
+        timestamps[slot] = timeSource.nanoTime();
+        channels[slot] = channel;
+        int base = slot * FIELDS;
+        values[base] = (float) target;
+        values[base + 1] = (float) state;
+        values[base + 2] = (float) (target - state);
+        values[base + 3] = (float) proportional;
+        values[base + 4] = (float) integral;
+        values[base + 5] = (float) derivative;
+        values[base + 6] = (float) feedforward;
+        values[base + 7] = (float) output;
+        head.lazySet(written + 1);
+        return true;
+    }
+
+    /**
+     * Writes every record in the ring to the file. Flush thread only
+     * @return number of records written
+     * @throws IOException if the file can not be written
+     */
+    private int drain() throws IOException {
+        long start = tail.get();
+        long end = head.get();
+        for (long i = start; i < end; i++) {
+            if (chunk.remaining() < RECORD_SIZE) {
+                mapChunk(fileSize);
+            }
+            int slot = (int) (i % capacity);
+            chunk.putLong(timestamps[slot]).putInt(channels[slot]);
+            int base = slot * FIELDS;
+            for (int field = 0; field < FIELDS; field++) {
+                chunk.putFloat(values[base + field]);
+            }
+            fileSize += RECORD_SIZE;
+            tail.lazySet(i + 1);
+        }
+        if (end > start) {
+            header.putLong(COUNT_OFFSET, end);
+        }
+        return (int) (end - start);
+    }
+
+    /**
+     * Maps the header and writes the format, record size, committed record count and channel names at the start of the file
+     */
+    private void writeHeader() throws IOException {
+        Charset utf8 = Charset.forName("UTF-8");
+        int size = COUNT_OFFSET + 8;
+        for (String name : names) {
+            size += 4 + name.getBytes(utf8).length;
+        }
+        if (size > CHUNK_SIZE) {
+            throw new IOException("Channel names do not fit in the log header");
+        }
+        header = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(RECORD_SIZE).putInt(names.size()).putLong(0);
+        for (String name : names) {
+            byte[] bytes = name.getBytes(utf8);
+            header.putInt(bytes.length).put(bytes);
+        }
+        fileSize = size;
+    }
+
+    /**
+     * Maps the next chunk of the file
+     * @param offset file offset of the chunk
+     */
+    private void mapChunk(long offset) throws IOException {
+        chunk = fileChannel.map(FileChannel.MapMode.READ_WRITE, offset, CHUNK_SIZE);
+        chunk.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Stops the flush thread after it drains the ring, then trims and closes the file
+     * @throws IOException if the file could not be written
+     * @throws InterruptedException if interrupted while waiting for the flush thread
+     */
+    public synchronized void stop() throws IOException, InterruptedException {
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join();
+        thread = null;
+        chunk.force();
+        header.force();
+        chunk = null;
+        header = null;
+        fileChannel.truncate(fileSize);
+        randomAccessFile.close();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Gets the number of records dropped while the ring was full
+     * @return number of dropped records
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Gets the number of records taken
+     * @return number of records
+     */
+    public long getRecordCount() {
+        return head.get();
+    }
+
+    /**
+     * Gets the error that stopped the flush thread
+     * @return error, or null for none
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+}
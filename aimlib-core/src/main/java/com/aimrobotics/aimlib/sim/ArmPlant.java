@@ -0,0 +1,29 @@
+package com.aimrobotics.aimlib.sim;
+
+/**
+ * ArmPlant class simulates a motor driven arm pulled down by gravity
+ * Position is the arm angle in radians from horizontal
+ */
+public class ArmPlant extends DcMotorPlant {
+
+    private static final double GRAVITY = 9.81; // meters per second squared
+
+    private final double gravityTorque; // gravity torque with the arm horizontal in newton meters
+
+    /**
+     * Constructor for ArmPlant
+     * @param motor bare motor
+     * @param gearRatio motor turns per output turn
+     * @param mass mass of the arm in kilograms
+     * @param centerOfMass distance from the pivot to the center of mass in meters
+     */
+    public ArmPlant(MotorSpec motor, double gearRatio, double mass, double centerOfMass) {
+        super(motor, gearRatio, mass * centerOfMass * centerOfMass);
+        this.gravityTorque = mass * GRAVITY * centerOfMass;
+    }
+
+    @Override
+    protected double loadTorque(double position, double velocity) {
+        return gravityTorque * Math.cos(position);
+    }
+}
@@ -0,0 +1,126 @@
+package com.aimrobotics.aimlib.sim;
+
+/**
+ * DcMotorPlant class simulates a DC motor driving an inertia through a gearbox
+ * Torque falls linearly from stall at zero speed to zero at free speed, scaled by the power, minus friction and any load
+ * Position and velocity are of the gearbox output, in radians and radians per second
+ */
+public class DcMotorPlant implements Plant {
+
+    private final MotorSpec motor; // bare motor
+    private final double gearRatio; // motor turns per output turn
+    private final double inertia; // inertia at the output in kilogram meters squared
+
+    private double friction = 0; // friction torque at the output in newton meters
+    private double minPosition = Double.NEGATIVE_INFINITY; // hard stop below in radians
+    private double maxPosition = Double.POSITIVE_INFINITY; // hard stop above in radians
+
+    private double power = 0; // motor power between -1 and 1
+    private double position = 0; // output position in radians
+    private double velocity = 0; // output velocity in radians per second
+    private double acceleration = 0; // output acceleration in radians per second squared
+
+    /**
+     * Constructor for DcMotorPlant
+     * @param motor bare motor
+     * @param gearRatio motor turns per output turn
+     * @param inertia inertia at the output in kilogram meters squared
+     */
+    public DcMotorPlant(MotorSpec motor, double gearRatio, double inertia) {
+        if (gearRatio <= 0 || inertia <= 0) {
+            throw new IllegalArgumentException("Gear ratio and inertia must be positive");
+        }
+        this.motor = motor;
+        this.gearRatio = gearRatio;
+        this.inertia = inertia;
+    }
+
+    @Override
+    public void setInput(double input) {
+        power = Math.max(-1, Math.min(1, input));
+    }
+
+    @Override
+    public void step(double dt) {
+        double motorTorque = gearRatio * motor.getStallTorque() * (power - velocity * gearRatio / motor.getFreeSpeed());
+        double drivingTorque = motorTorque - loadTorque(position, velocity);
+        double netTorque;
+        if (velocity == 0 && Math.abs(drivingTorque) <= friction) {
+            netTorque = 0;
+        } else {
+            netTorque = drivingTorque - Math.copySign(friction, velocity != 0 ? velocity : drivingTorque);
+        }
+        acceleration = netTorque / inertia;
+        double newVelocity = velocity + acceleration * dt;
+        if (velocity != 0 && Math.signum(newVelocity) != Math.signum(velocity) && Math.abs(drivingTorque) <= friction) {
+            newVelocity = 0;
+        }
+        velocity = newVelocity;
+        position += velocity * dt;
+        if (position < minPosition) {
+            position = minPosition;
+            velocity = Math.max(velocity, 0);
+        } else if (position > maxPosition) {
+            position = maxPosition;
+            velocity = Math.min(velocity, 0);
+        }
+    }
+
+    /**
+     * Gets the torque the load puts against the output, such as gravity. None by default
+     * @param position output position in radians
+     * @param velocity output velocity in radians per second
+     * @return load torque in newton meters, positive opposing positive motion
+     */
+    protected double loadTorque(double position, double velocity) {
+        return 0;
+    }
+
+    /**
+     * Sets the friction torque at the output
+     * @param friction friction torque in newton meters
+     */
+    public void setFriction(double friction) {
+        this.friction = friction;
+    }
+
+    /**
+     * Sets hard stops on the output position
+     * @param minPosition hard stop below in radians
+     * @param maxPosition hard stop above in radians
+     */
+    public void setLimits(double minPosition, double maxPosition) {
+        this.minPosition = minPosition;
+        this.maxPosition = maxPosition;
+    }
+
+    /**
+     * Moves the output to a position at rest
+     * @param position output position in radians
+     */
+    public void reset(double position) {
+        this.position = position;
+        this.velocity = 0;
+        this.acceleration = 0;
+    }
+
+    public double getPower() {
+        return power;
+    }
+
+    public double getPosition() {
+        return position;
+    }
+
+    public double getVelocity() {
+        return velocity;
+    }
+
+    public double getAcceleration() {
+        return acceleration;
+    }
+
+    public double getGearRatio() {
+        return gearRatio;
+    }
+}
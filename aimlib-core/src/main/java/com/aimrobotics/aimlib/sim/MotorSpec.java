@@ -0,0 +1,31 @@
+package com.aimrobotics.aimlib.sim;
+
+/**
+ * MotorSpec class holds the stall torque and free speed of a bare DC motor, before any gearbox
+ */
+public class MotorSpec {
+
+    public static final MotorSpec YELLOW_JACKET = new MotorSpec(0.124, 6000 * 2 * Math.PI / 60); // approximate goBILDA 5203 bare motor at 12 volts
+    public static final MotorSpec HD_HEX = new MotorSpec(0.105, 6000 * 2 * Math.PI / 60); // approximate REV HD Hex bare motor at 12 volts
+
+    private final double stallTorque; // torque at zero speed and full power in newton meters
+    private final double freeSpeed; // speed at full power and no load in radians per second
+
+    /**
+     * Constructor for MotorSpec
+     * @param stallTorque torque at zero speed and full power in newton meters
+     * @param freeSpeed speed at full power and no load in radians per second
+     */
+    public MotorSpec(double stallTorque, double freeSpeed) {
+        this.stallTorque = stallTorque;
+        this.freeSpeed = freeSpeed;
+    }
+
+    public double getStallTorque() {
+        return stallTorque;
+    }
+
+    public double getFreeSpeed() {
+        return freeSpeed;
+    }
+}
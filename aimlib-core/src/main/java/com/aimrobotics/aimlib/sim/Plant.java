@@ -0,0 +1,19 @@
+package com.aimrobotics.aimlib.sim;
+
+/**
+ * Plant interface is a physical system stepped forward in simulated time
+ */
+public interface Plant {
+
+    /**
+     * Sets the input held until the next change, such as a motor power
+     * @param input input of the plant
+     */
+    void setInput(double input);
+
+    /**
+     * Advances the plant
+     * @param dt step in seconds
+     */
+    void step(double dt);
+}
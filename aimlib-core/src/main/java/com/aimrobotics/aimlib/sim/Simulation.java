@@ -0,0 +1,87 @@
+package com.aimrobotics.aimlib.sim;
+
+import com.aimrobotics.aimlib.control.ManualTimeSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simulation class steps a set of plants on virtual time
+ * Give its time source to the controllers, clocks and schedulers under test, then call advance between loops,
+ * so the control code sees the same time steps it would on the robot while the simulation runs as fast as the CPU allows
+ * A Simulation is not thread safe, run independent simulations on separate threads with SimulationSweep
+ */
+public class Simulation {
+
+    public static final double DEFAULT_PHYSICS_STEP = 0.001; // largest physics step in seconds
+
+    private final ManualTimeSource timeSource = new ManualTimeSource(); // virtual time
+    private final List<Plant> plants = new ArrayList<>(); // plants stepped each advance
+    private final double physicsStep; // largest physics step in seconds
+
+    /**
+     * Constructor for Simulation with the default physics step
+     */
+    public Simulation() {
+        this(DEFAULT_PHYSICS_STEP);
+    }
+
+    /**
+     * Constructor for Simulation
+     * @param physicsStep largest physics step in seconds, loops longer than this are split into substeps
+     */
+    public Simulation(double physicsStep) {
+        if (physicsStep <= 0) {
+            throw new IllegalArgumentException("Physics step must be positive");
+        }
+        this.physicsStep = physicsStep;
+    }
+
+    /**
+     * Adds a plant stepped each advance
+     * @param plant plant to add
+     * @return the plant, for chaining
+     */
+    public <P extends Plant> P add(P plant) {
+        plants.add(plant);
+        return plant;
+    }
+
+    /**
+     * Steps every plant and virtual time forward
+     * @param seconds time to advance
+     */
+    public void advance(double seconds) {
+        if (seconds <= 0) {
+            return;
+        }
+        int substeps = (int) Math.ceil(seconds / physicsStep);
+        double dt = seconds / substeps;
+        for (int step = 0; step < substeps; step++) {
+            for (int i = 0; i < plants.size(); i++) {
+                plants.get(i).step(dt);
+            }
+        }
+        timeSource.advance(seconds);
+    }
+
+    /**
+     * Gets the virtual time of the simulation
+     * @return time source to give the code under test
+     */
+    public ManualTimeSource getTimeSource() {
+        return timeSource;
+    }
+
+    /**
+     * Gets the virtual time elapsed
+     * @return elapsed time in seconds
+     */
+    public double getTime() {
+        return timeSource.nanoTime() / 1e9;
+    }
+
+    public double getPhysicsStep() {
+        return physicsStep;
+    }
+}
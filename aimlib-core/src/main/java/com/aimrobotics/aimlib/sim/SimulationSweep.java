@@ -0,0 +1,54 @@
+package com.aimrobotics.aimlib.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * SimulationSweep class runs many independent simulations at once across the CPU cores, such as one per set of gains
+ * Each task must build its own Simulation, plants and controllers, nothing may be shared between tasks
+ */
+public class SimulationSweep {
+
+    private SimulationSweep() { }
+
+    /**
+     * Runs tasks on one thread per core
+     * @param tasks simulations to run, each returning its result
+     * @return results in the order of the tasks
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException if a task threw
+     */
+    public static <R> List<R> run(List<? extends Callable<R>> tasks) throws InterruptedException, ExecutionException {
+        return run(tasks, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Runs tasks on a set number of threads
+     * @param tasks simulations to run, each returning its result
+     * @param threads number of threads
+     * @return results in the order of the tasks
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException if a task threw
+     */
+    public static <R> List<R> run(List<? extends Callable<R>> tasks, int threads) throws InterruptedException, ExecutionException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, tasks.size())));
+        try {
+            List<Future<R>> futures = new ArrayList<>(tasks.size());
+            for (Callable<R> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            List<R> results = new ArrayList<>(tasks.size());
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.aimrobotics.aimlib.sim;
+
+/**
+ * SlidePlant class simulates a linear slide driven by a motor through a spool
+ * Position stays in radians of the spool like every DcMotorPlant, getExtension gives meters
+ */
+public class SlidePlant extends DcMotorPlant {
+
+    private static final double GRAVITY = 9.81; // meters per second squared
+
+    private final double spoolRadius; // radius of the spool in meters
+    private final double gravityTorque; // torque of the carriage weight on the spool in newton meters
+
+    /**
+     * Constructor for SlidePlant
+     * @param motor bare motor
+     * @param gearRatio motor turns per spool turn
+     * @param mass mass of the moving stages in kilograms
+     * @param spoolRadius radius of the spool in meters
+     * @param angle angle of the slide from horizontal in radians, PI / 2 for vertical
+     * @param maxExtension travel of the slide in meters
+     */
+    public SlidePlant(MotorSpec motor, double gearRatio, double mass, double spoolRadius, double angle, double maxExtension) {
+        super(motor, gearRatio, mass * spoolRadius * spoolRadius);
+        this.spoolRadius = spoolRadius;
+        this.gravityTorque = mass * GRAVITY * Math.sin(angle) * spoolRadius;
+        setLimits(0, maxExtension / spoolRadius);
+    }
+
+    @Override
+    protected double loadTorque(double position, double velocity) {
+        return gravityTorque;
+    }
+
+    /**
+     * Gets the extension of the slide
+     * @return extension in meters
+     */
+    public double getExtension() {
+        return getPosition() * spoolRadius;
+    }
+
+    public double getSpoolRadius() {
+        return spoolRadius;
+    }
+}
@@ -0,0 +1,165 @@
+package com.aimrobotics.aimlib.util;
+
+/**
+ * BulkReadCache class performs at most one bulk read per hub per loop and serves every mechanism from the cached values
+ * Devices are located by the hub and port recorded in their HardwareInterface
+ * A hub is only read when one of its devices is requested after the cache was invalidated
+ * Invalidating also clears the hubs' own caches, so device reads that bypass this cache get fresh values in the same loop
+ * Build one for the robot's hubs with LynxBulkReadHub.createCache, or from StubBulkReadHubs when testing off the robot
+ */
+public class BulkReadCache {
+
+    /**
+     * RefreshMode decides when cached values become stale
+     * MANUAL only invalidates when invalidate is called, ONCE_PER_LOOP also invalidates at every startLoop
+     */
+    public enum RefreshMode {
+        MANUAL,
+        ONCE_PER_LOOP
+    }
+
+    private final BulkReadHub controlHub; // hub that the control hub devices are read from
+    private final BulkReadHub expansionHub; // hub that the expansion hub devices are read from, null if there is none
+
+    private final HubFrame controlHubFrame = new HubFrame(); // cached values of the control hub
+    private final HubFrame expansionHubFrame = new HubFrame(); // cached values of the expansion hub
+
+    private boolean controlHubStale = true; // does the control hub need to be read before its values are served
+    private boolean expansionHubStale = true; // does the expansion hub need to be read before its values are served
+
+    private RefreshMode refreshMode; // when the cached values become stale
+    private int transactionCount = 0; // number of bulk reads issued
+
+    /**
+     * Constructor for BulkReadCache
+     * @param controlHub hub that the control hub devices are read from
+     * @param expansionHub hub that the expansion hub devices are read from, null if there is none
+     * @param refreshMode when the cached values become stale
+     */
+    public BulkReadCache(BulkReadHub controlHub, BulkReadHub expansionHub, RefreshMode refreshMode) {
+        this.controlHub = controlHub;
+        this.expansionHub = expansionHub;
+        this.refreshMode = refreshMode;
+    }
+
+    /**
+     * Marks the start of a loop. Invalidates the cache when refreshing once per loop
+     * Call once at the top of the OpMode loop before any mechanism loops or direct device reads
+     */
+    public void startLoop() {
+        if (refreshMode == RefreshMode.ONCE_PER_LOOP) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Invalidates the cached values of both hubs. The next read of each hub issues a new bulk read
+     */
+    public void invalidate() {
+        invalidate(false);
+        if (expansionHub != null) {
+            invalidate(true);
+        }
+    }
+
+    /**
+     * Invalidates the cached values of one hub. The next read of that hub issues a new bulk read
+     * @param isExpansionHub true to invalidate the expansion hub, false to invalidate the control hub
+     */
+    public void invalidate(boolean isExpansionHub) {
+        if (isExpansionHub) {
+            expansionHubStale = true;
+            if (expansionHub != null) {
+                expansionHub.invalidate();
+            }
+        } else {
+            controlHubStale = true;
+            controlHub.invalidate();
+        }
+    }
+
+    /**
+     * Gets the cached encoder position of a motor
+     * @param device hardware interface of the motor
+     * @return encoder position in ticks
+     */
+    public int getMotorPosition(HardwareInterface device) {
+        return frameFor(device).motorPositions[device.getPort()];
+    }
+
+    /**
+     * Gets the cached encoder velocity of a motor
+     * @param device hardware interface of the motor
+     * @return encoder velocity in ticks per second
+     */
+    public double getMotorVelocity(HardwareInterface device) {
+        return frameFor(device).motorVelocities[device.getPort()];
+    }
+
+    /**
+     * Gets the cached state of a digital channel
+     * @param device hardware interface of the digital device
+     * @return state of the channel
+     */
+    public boolean getDigitalState(HardwareInterface device) {
+        return frameFor(device).digitalStates[device.getPort()];
+    }
+
+    /**
+     * Gets the cached voltage of an analog channel
+     * @param device hardware interface of the analog device
+     * @return voltage of the channel
+     */
+    public double getAnalogVoltage(HardwareInterface device) {
+        return frameFor(device).analogVoltages[device.getPort()];
+    }
+
+    /**
+     * Gets the frame of the hub a device is on, reading the hub first if it is stale
+     * @param device hardware interface of the device
+     * @return up to date frame of the device's hub
+     */
+    private HubFrame frameFor(HardwareInterface device) {
+        if (device.isExpansionHub()) {
+            if (expansionHub == null) {
+                throw new IllegalStateException("No expansion hub configured for " + device.getDeviceName());
+            }
+            if (expansionHubStale) {
+                expansionHub.readBulk(expansionHubFrame);
+                expansionHubStale = false;
+                transactionCount++;
+            }
+            return expansionHubFrame;
+        }
+        if (controlHubStale) {
+            controlHub.readBulk(controlHubFrame);
+            controlHubStale = false;
+            transactionCount++;
+        }
+        return controlHubFrame;
+    }
+
+    /**
+     * Sets when the cached values become stale
+     * @param refreshMode when the cached values become stale
+     */
+    public void setRefreshMode(RefreshMode refreshMode) {
+        this.refreshMode = refreshMode;
+    }
+
+    /**
+     * Gets when the cached values become stale
+     * @return when the cached values become stale
+     */
+    public RefreshMode getRefreshMode() {
+        return refreshMode;
+    }
+
+    /**
+     * Gets the number of bulk reads issued since construction
+     * @return number of bulk reads issued
+     */
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+}
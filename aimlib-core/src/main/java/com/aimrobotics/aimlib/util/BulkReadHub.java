@@ -0,0 +1,19 @@
+package com.aimrobotics.aimlib.util;
+
+/**
+ * BulkReadHub interface represents a hub that can report all of its sensor values in one transaction
+ * Implemented by LynxBulkReadHub on the robot and by stub hubs when testing off the robot
+ */
+public interface BulkReadHub {
+
+    /**
+     * Performs one bulk read transaction and copies the results into the frame
+     * @param frame frame to fill with the values read from the hub
+     */
+    void readBulk(HubFrame frame);
+
+    /**
+     * Drops any values the hub keeps for device reads outside the cache, so the next read of the hub fetches fresh values
+     */
+    void invalidate();
+}
@@ -0,0 +1,113 @@
+package com.aimrobotics.aimlib.util;
+
+import com.aimrobotics.aimlib.control.SystemTimeSource;
+import com.aimrobotics.aimlib.control.TimeSource;
+
+/**
+ * CachedActuator class skips hardware writes that would not change the output of an actuator
+ * Writes follow a WritePolicy, the same one IoExecutor uses through its WriteCache
+ */
+public abstract class CachedActuator {
+
+    private final WritePolicy policy; // when a new value is sent
+    private final TimeSource timeSource; // source of the write times
+
+    private boolean hasSent = false; // has a value been sent since construction or invalidation
+    private double lastSentValue = 0; // last value sent to the hardware
+    private long lastSentTime = 0; // time of the last write in nanoseconds
+
+    private long sentWrites = 0; // number of writes sent to the hardware
+    private long skippedWrites = 0; // number of writes skipped
+
+    /**
+     * Constructor for CachedActuator
+     * @param epsilon change required before a new value is sent
+     * @param resendInterval seconds before an unchanged value is sent again, 0 to never resend
+     */
+    protected CachedActuator(double epsilon, double resendInterval) {
+        this(epsilon, resendInterval, new SystemTimeSource());
+    }
+
+    /**
+     * Constructor for CachedActuator with a custom time source
+     * @param epsilon change required before a new value is sent
+     * @param resendInterval seconds before an unchanged value is sent again, 0 to never resend
+     * @param timeSource source of the write times
+     */
+    protected CachedActuator(double epsilon, double resendInterval, TimeSource timeSource) {
+        this.policy = new WritePolicy(epsilon, resendInterval);
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * Sends the value to the hardware unless it matches the last value sent
+     * @param value value to send
+     * @return true if the value was sent to the hardware
+     */
+    protected boolean set(double value) {
+        long now = timeSource.nanoTime();
+        if (!policy.shouldWrite(hasSent, lastSentValue, lastSentTime, value, now)) {
+            skippedWrites++;
+            return false;
+        }
+        write(value);
+        hasSent = true;
+        lastSentValue = value;
+        lastSentTime = now;
+        sentWrites++;
+        return true;
+    }
+
+    /**
+     * Writes the value to the hardware
+     * @param value value to write
+     */
+    protected abstract void write(double value);
+
+    /**
+     * Forgets the last value sent so that the next value is always written
+     */
+    public void invalidate() {
+        hasSent = false;
+    }
+
+    /**
+     * Gets the policy deciding when a new value is sent
+     * @return write policy of the actuator
+     */
+    public WritePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Gets the last value sent to the hardware
+     * @return last value sent to the hardware
+     */
+    public double getLastSentValue() {
+        return lastSentValue;
+    }
+
+    /**
+     * Gets the number of writes sent to the hardware
+     * @return number of writes sent
+     */
+    public long getSentWrites() {
+        return sentWrites;
+    }
+
+    /**
+     * Gets the number of writes skipped because the value had not changed
+     * @return number of writes skipped
+     */
+    public long getSkippedWrites() {
+        return skippedWrites;
+    }
+
+    /**
+     * Resets the sent and skipped write counters
+     */
+    public void resetCounters() {
+        sentWrites = 0;
+        skippedWrites = 0;
+    }
+}
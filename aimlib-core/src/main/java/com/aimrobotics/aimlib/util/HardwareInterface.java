@@ -1,7 +1,5 @@
 package com.aimrobotics.aimlib.util;
 
-import androidx.annotation.NonNull;
-
 public class HardwareInterface{
     String deviceName;
     boolean isExpansionHub;
@@ -25,7 +23,7 @@ public class HardwareInterface{
         return port;
     }
 
-    @NonNull
+    @Override
     public String toString() {
         return "Device Name: " + deviceName + " is in the control hub: " + !isExpansionHub + ", and is in port: " + port;
     }
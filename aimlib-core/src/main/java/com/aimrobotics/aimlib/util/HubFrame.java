@@ -0,0 +1,53 @@
+package com.aimrobotics.aimlib.util;
+
+/**
+ * HubFrame class holds the values returned by a single bulk read of one hub
+ * Arrays are indexed by the port or channel number of the device on the hub
+ */
+public class HubFrame {
+
+    public static final int MOTOR_PORTS = 4; // number of motor ports on a hub
+    public static final int DIGITAL_CHANNELS = 8; // number of digital channels on a hub
+    public static final int ANALOG_CHANNELS = 4; // number of analog channels on a hub
+
+    final int[] motorPositions = new int[MOTOR_PORTS]; // encoder positions in ticks
+    final double[] motorVelocities = new double[MOTOR_PORTS]; // encoder velocities in ticks per second
+    final boolean[] digitalStates = new boolean[DIGITAL_CHANNELS]; // digital channel states
+    final double[] analogVoltages = new double[ANALOG_CHANNELS]; // analog input voltages
+
+    /**
+     * Sets the encoder position of a motor port
+     * @param port motor port
+     * @param position encoder position in ticks
+     */
+    public void setMotorPosition(int port, int position) {
+        motorPositions[port] = position;
+    }
+
+    /**
+     * Sets the encoder velocity of a motor port
+     * @param port motor port
+     * @param velocity encoder velocity in ticks per second
+     */
+    public void setMotorVelocity(int port, double velocity) {
+        motorVelocities[port] = velocity;
+    }
+
+    /**
+     * Sets the state of a digital channel
+     * @param channel digital channel
+     * @param state state of the channel
+     */
+    public void setDigitalState(int channel, boolean state) {
+        digitalStates[channel] = state;
+    }
+
+    /**
+     * Sets the voltage of an analog channel
+     * @param channel analog channel
+     * @param voltage voltage of the channel
+     */
+    public void setAnalogVoltage(int channel, double voltage) {
+        analogVoltages[channel] = voltage;
+    }
+}
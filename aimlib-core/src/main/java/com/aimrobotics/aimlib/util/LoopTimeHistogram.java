@@ -0,0 +1,125 @@
+package com.aimrobotics.aimlib.util;
+
+/**
+ * LoopTimeHistogram class records durations into fixed log-scaled buckets without allocating
+ * Every power of two is split into eight buckets, so reported percentiles are within about 12.5 percent of the true value
+ */
+public class LoopTimeHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3; // log2 of the buckets per power of two
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS; // buckets per power of two
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS; // buckets needed for any positive long
+
+    private final long[] counts = new long[BUCKET_COUNT]; // number of durations in each bucket
+    private long count = 0; // number of durations recorded
+    private long sum = 0; // sum of the durations recorded
+    private long max = 0; // longest duration recorded
+
+    /**
+     * Records a duration
+     * @param nanos duration in nanoseconds, negative durations are recorded as zero
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts[bucketOf(nanos)]++;
+        count++;
+        sum += nanos;
+        if (nanos > max) {
+            max = nanos;
+        }
+    }
+
+    /**
+     * Gets the duration below which a fraction of the recorded durations fall
+     * @param percentile fraction between 0 and 1, such as 0.99
+     * @return upper bound of the bucket holding the percentile in nanoseconds, 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * count);
+        if (rank < 1) {
+            rank = 1;
+        }
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    public long getP50() {
+        return getPercentile(0.5);
+    }
+
+    public long getP90() {
+        return getPercentile(0.9);
+    }
+
+    public long getP99() {
+        return getPercentile(0.99);
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean of the recorded durations
+     * @return mean duration in nanoseconds, 0 if nothing was recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Clears every recorded duration
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts[bucket] = 0;
+        }
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+
+    /**
+     * Gets the bucket of a duration
+     * @param nanos duration in nanoseconds, not negative
+     * @return index of the bucket
+     */
+    private static int bucketOf(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the largest duration that falls in a bucket
+     * @param bucket index of the bucket
+     * @return largest duration of the bucket in nanoseconds
+     */
+    private static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        long lowerBound = (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
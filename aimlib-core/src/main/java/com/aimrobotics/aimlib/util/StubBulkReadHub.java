@@ -0,0 +1,42 @@
+package com.aimrobotics.aimlib.util;
+
+/**
+ * StubBulkReadHub class is a hub for running a BulkReadCache off the robot
+ * Each bulk read copies the values set on its frame and counts the transaction, like a LynxBulkReadHub would
+ */
+public class StubBulkReadHub implements BulkReadHub {
+
+    private final HubFrame frame = new HubFrame(); // values returned by bulk reads
+    private int readCount = 0; // number of bulk reads
+    private int invalidateCount = 0; // number of times the hub's own cache was cleared
+
+    @Override
+    public void readBulk(HubFrame target) {
+        System.arraycopy(frame.motorPositions, 0, target.motorPositions, 0, HubFrame.MOTOR_PORTS);
+        System.arraycopy(frame.motorVelocities, 0, target.motorVelocities, 0, HubFrame.MOTOR_PORTS);
+        System.arraycopy(frame.digitalStates, 0, target.digitalStates, 0, HubFrame.DIGITAL_CHANNELS);
+        System.arraycopy(frame.analogVoltages, 0, target.analogVoltages, 0, HubFrame.ANALOG_CHANNELS);
+        readCount++;
+    }
+
+    @Override
+    public void invalidate() {
+        invalidateCount++;
+    }
+
+    /**
+     * Gets the frame whose values are returned by bulk reads. Set values on it to simulate the hub's sensors
+     * @return frame of the hub's sensor values
+     */
+    public HubFrame getFrame() {
+        return frame;
+    }
+
+    public int getReadCount() {
+        return readCount;
+    }
+
+    public int getInvalidateCount() {
+        return invalidateCount;
+    }
+}
@@ -0,0 +1,54 @@
+package com.aimrobotics.aimlib.util;
+
+/**
+ * WritePolicy class decides when a new value is written to an actuator, shared by CachedActuator and WriteCache
+ * A value is written when nothing has been sent yet, when it is exactly zero after a nonzero value so an actuator is always
+ * stopped, when it moves more than epsilon from the last value sent, or when the resend interval has passed,
+ * so an actuator that lost its command, such as after a hub reset, gets it back
+ */
+public final class WritePolicy {
+
+    public static final double DEFAULT_EPSILON = 0.001; // default change required before a new value is sent
+    public static final double DEFAULT_RESEND_INTERVAL = 1.0; // default seconds before an unchanged value is sent again
+    public static final WritePolicy DEFAULT = new WritePolicy(DEFAULT_EPSILON, DEFAULT_RESEND_INTERVAL); // policy with the defaults
+
+    private final double epsilon; // change required before a new value is sent
+    private final long resendIntervalNanos; // nanoseconds before an unchanged value is sent again, disabled if not positive
+
+    /**
+     * Constructor for WritePolicy
+     * @param epsilon change required before a new value is sent
+     * @param resendInterval seconds before an unchanged value is sent again, 0 to never resend
+     */
+    public WritePolicy(double epsilon, double resendInterval) {
+        if (epsilon < 0) {
+            throw new IllegalArgumentException("Epsilon must not be negative");
+        }
+        this.epsilon = epsilon;
+        this.resendIntervalNanos = (long) (resendInterval * 1e9);
+    }
+
+    /**
+     * Checks if a value should be written
+     * @param hasSent has a value been sent since construction or invalidation
+     * @param lastSentValue last value sent
+     * @param lastSentTime time of the last write in nanoseconds
+     * @param value value to write
+     * @param now current time in nanoseconds
+     * @return true if the value should be written
+     */
+    public boolean shouldWrite(boolean hasSent, double lastSentValue, long lastSentTime, double value, long now) {
+        if (!hasSent || (value == 0 && lastSentValue != 0) || Math.abs(value - lastSentValue) > epsilon) {
+            return true;
+        }
+        return resendIntervalNanos > 0 && now - lastSentTime >= resendIntervalNanos;
+    }
+
+    public double getEpsilon() {
+        return epsilon;
+    }
+
+    public double getResendInterval() {
+        return resendIntervalNanos / 1e9;
+    }
+}
@@ -0,0 +1,148 @@
+package com.aimrobotics.aimlib.actions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ActionRunnerTest {
+
+    /**
+     * CountingAction counts its calls and runs a hook on each update
+     */
+    private static class CountingAction implements Action {
+        int starts = 0;
+        int updates = 0;
+        int cancels = 0;
+        int length; // updates before finishing
+        Runnable onUpdate; // run on each update, null for none
+
+        CountingAction(int length) {
+            this.length = length;
+        }
+
+        @Override
+        public void start() {
+            starts++;
+            updates = 0;
+        }
+
+        @Override
+        public boolean update() {
+            updates++;
+            if (onUpdate != null) {
+                onUpdate.run();
+            }
+            return updates >= length;
+        }
+
+        @Override
+        public void cancel() {
+            cancels++;
+        }
+    }
+
+    private final ActionRunner runner = new ActionRunner(4);
+
+    @Test
+    public void actionStartedDuringUpdateWaitsForTheNextUpdate() {
+        final CountingAction second = new CountingAction(10);
+        final CountingAction first = new CountingAction(10);
+        first.onUpdate = new Runnable() {
+            @Override
+            public void run() {
+                if (first.updates == 1) {
+                    runner.run(second);
+                }
+            }
+        };
+        runner.run(first);
+        runner.update();
+        assertEquals(1, second.starts);
+        assertEquals(0, second.updates);
+        assertTrue(runner.isRunning(second));
+
+        runner.update();
+        assertEquals(1, second.updates);
+    }
+
+    @Test
+    public void cancelDuringUpdateKeepsTheOtherActionsUpdating() {
+        final CountingAction second = new CountingAction(10);
+        final CountingAction third = new CountingAction(10);
+        CountingAction first = new CountingAction(10);
+        first.onUpdate = new Runnable() {
+            @Override
+            public void run() {
+                runner.cancel(second);
+            }
+        };
+        runner.run(first);
+        runner.run(second);
+        runner.run(third);
+        runner.update();
+
+        assertEquals(1, second.updates);
+        assertEquals(1, third.updates);
+        assertEquals(1, second.cancels);
+        assertFalse(runner.isRunning(second));
+        assertEquals(2, runner.size());
+    }
+
+    @Test
+    public void actionCanCancelItself() {
+        final CountingAction action = new CountingAction(10);
+        action.onUpdate = new Runnable() {
+            @Override
+            public void run() {
+                runner.cancel(action);
+            }
+        };
+        runner.run(action);
+        runner.update();
+        assertEquals(1, action.cancels);
+        assertFalse(runner.isBusy());
+    }
+
+    @Test
+    public void cancelAllDuringUpdateCancelsQueuedStarts() {
+        final CountingAction started = new CountingAction(10);
+        CountingAction first = new CountingAction(10);
+        first.onUpdate = new Runnable() {
+            @Override
+            public void run() {
+                runner.run(started);
+                runner.cancelAll();
+            }
+        };
+        runner.run(first);
+        runner.update();
+        assertEquals(1, first.cancels);
+        assertEquals(1, started.cancels);
+        assertFalse(runner.isBusy());
+    }
+
+    @Test
+    public void finishedActionsAreNotCancelled() {
+        final CountingAction second = new CountingAction(1);
+        CountingAction first = new CountingAction(10);
+        first.onUpdate = new Runnable() {
+            @Override
+            public void run() {
+                runner.cancel(second);
+            }
+        };
+        runner.run(second);
+        runner.run(first);
+        runner.update();
+        assertEquals(0, second.cancels);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsStartsBeyondCapacity() {
+        for (int i = 0; i < 5; i++) {
+            runner.run(new CountingAction(1));
+        }
+    }
+}
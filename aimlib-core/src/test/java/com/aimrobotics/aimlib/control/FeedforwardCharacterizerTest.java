@@ -0,0 +1,83 @@
+package com.aimrobotics.aimlib.control;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.aimrobotics.aimlib.sim.DcMotorPlant;
+import com.aimrobotics.aimlib.sim.MotorSpec;
+import com.aimrobotics.aimlib.sim.Simulation;
+import com.aimrobotics.aimlib.sim.SlidePlant;
+
+import org.junit.Test;
+
+public class FeedforwardCharacterizerTest {
+
+    private static final double DT = 0.01; // one 100 Hz loop
+    private static final double TOLERANCE = 0.01; // largest error of a fitted gain, relative to the true gain
+    private static final double PHYSICS_STEP = 0.0001; // fine enough that integration error stays well inside the tolerance
+    private static final MotorSpec MOTOR = MotorSpec.YELLOW_JACKET;
+
+    /**
+     * Runs the characterization routine against a simulated plant until it finishes
+     * @param characterizer routine to run
+     * @param simulation simulation stepping the plant
+     * @param plant plant driven by the routine
+     */
+    private static void characterize(FeedforwardCharacterizer characterizer, Simulation simulation, DcMotorPlant plant) {
+        double dt = 0;
+        while (!characterizer.isFinished()) {
+            assertTrue("Characterization did not finish", simulation.getTime() < 60);
+            plant.setInput(characterizer.update(plant.getPosition(), plant.getVelocity(), dt));
+            simulation.advance(DT);
+            dt = DT;
+        }
+    }
+
+    private static void assertGain(String name, double expected, double actual) {
+        assertEquals(name, expected, actual, Math.abs(expected) * TOLERANCE);
+    }
+
+    @Test
+    public void recoversMotorGains() {
+        double gearRatio = 13.7;
+        double inertia = 0.002;
+        double friction = 0.05;
+        Simulation simulation = new Simulation(PHYSICS_STEP);
+        DcMotorPlant plant = simulation.add(new DcMotorPlant(MOTOR, gearRatio, inertia));
+        plant.setFriction(friction);
+        FeedforwardCharacterizer characterizer = new FeedforwardCharacterizer(0.15, 0.6, 4, false, false);
+        characterizer.setSettleTime(0.5);
+
+        characterize(characterizer, simulation, plant);
+
+        // power = torque / (gear ratio * stall torque) + velocity * gear ratio / free speed
+        double outputStallTorque = gearRatio * MOTOR.getStallTorque();
+        assertGain("kV", gearRatio / MOTOR.getFreeSpeed(), characterizer.getKV());
+        assertGain("kA", inertia / outputStallTorque, characterizer.getKA());
+        assertGain("kStatic", friction / outputStallTorque, characterizer.getKStatic());
+        assertEquals(0, characterizer.getKG(), 0);
+    }
+
+    @Test
+    public void recoversSlideGains() {
+        double gearRatio = 13.7;
+        double mass = 2;
+        double spoolRadius = 0.03;
+        double friction = 0.1;
+        Simulation simulation = new Simulation(PHYSICS_STEP);
+        SlidePlant plant = simulation.add(new SlidePlant(MOTOR, gearRatio, mass, spoolRadius, Math.PI / 2, 0.8));
+        plant.setFriction(friction);
+        FeedforwardCharacterizer characterizer = new FeedforwardCharacterizer(0.15, 0.6, 4, false, true);
+        characterizer.setPositionLimits(2, 24);
+        characterizer.setSettleTime(0.5);
+
+        characterize(characterizer, simulation, plant);
+
+        double outputStallTorque = gearRatio * MOTOR.getStallTorque();
+        assertGain("kV", gearRatio / MOTOR.getFreeSpeed(), characterizer.getKV());
+        assertGain("kA", mass * spoolRadius * spoolRadius / outputStallTorque, characterizer.getKA());
+        assertGain("kStatic", friction / outputStallTorque, characterizer.getKStatic());
+        assertGain("kG", mass * 9.81 * spoolRadius / outputStallTorque, characterizer.getKG());
+        assertTrue(characterizer.getRSquared() > 0.999);
+    }
+}
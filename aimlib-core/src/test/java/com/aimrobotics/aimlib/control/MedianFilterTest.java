@@ -0,0 +1,43 @@
+package com.aimrobotics.aimlib.control;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class MedianFilterTest {
+
+    private static double filterAll(MedianFilter filter, double... inputs) {
+        double output = Double.NaN;
+        for (double input : inputs) {
+            output = filter.filter(input);
+        }
+        return output;
+    }
+
+    @Test
+    public void rejectsSingleSampleSpikes() {
+        MedianFilter filter = new MedianFilter(3);
+        assertEquals(5, filterAll(filter, 5, 5, 5, 100), 0);
+        assertEquals(5, filter.filter(5), 0);
+    }
+
+    @Test
+    public void skipsNaNSamples() {
+        MedianFilter filter = new MedianFilter(3);
+        assertEquals(4, filterAll(filter, 1, 2, Double.NaN, 3, 4, 5), 0);
+    }
+
+    @Test
+    public void holdsTheLastOutputOnNaN() {
+        MedianFilter filter = new MedianFilter(3);
+        assertEquals(1, filterAll(filter, 1, Double.NaN), 0);
+        assertEquals(5, filterAll(filter, 5, 5, 5, 100), 0);
+        assertEquals(5, filterAll(filter, 5, 5), 0);
+    }
+
+    @Test
+    public void averagesTheMiddleSamplesOfEvenWindows() {
+        MedianFilter filter = new MedianFilter(4);
+        assertEquals(2.5, filterAll(filter, 4, 1, 3, 2), 0);
+    }
+}
@@ -0,0 +1,103 @@
+package com.aimrobotics.aimlib.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.aimrobotics.aimlib.control.ManualTimeSource;
+
+import org.junit.Test;
+
+public class IoExecutorTest {
+
+    private final ManualTimeSource timeSource = new ManualTimeSource();
+    private final IoExecutor executor = new IoExecutor(timeSource);
+    private final StubSensorChannel[] sensors = new StubSensorChannel[4];
+    private final StubActuatorChannel[] actuators = new StubActuatorChannel[4];
+
+    /**
+     * Adds two sensors and two actuators to each hub, alternating between the hubs
+     */
+    private void addChannels() {
+        for (int i = 0; i < 4; i++) {
+            sensors[i] = new StubSensorChannel(0);
+            sensors[i].setValue(i + 1);
+            actuators[i] = new StubActuatorChannel(0);
+            assertEquals(i, executor.addSensor(sensors[i], i % 2 == 1));
+            assertEquals(i, executor.addActuator(actuators[i], i % 2 == 1));
+        }
+    }
+
+    private void checkCycle() {
+        for (int i = 0; i < 4; i++) {
+            executor.setCommand(i, 0.1 * (i + 1));
+        }
+        executor.submitCommands();
+        executor.runCycle();
+        SensorFrame frame = executor.getSensorFrame();
+        assertEquals(1, frame.sequence);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i + 1, frame.values[i], 0);
+            assertEquals(0.1 * (i + 1), actuators[i].getValue(), 0);
+        }
+        assertEquals(4, executor.getWriteCount());
+    }
+
+    @Test
+    public void serialCycleKeepsChannelIndicesAcrossHubs() {
+        addChannels();
+        checkCycle();
+        assertFalse(executor.isParallelHubs());
+    }
+
+    @Test
+    public void parallelHubsCycleMatchesSerial() throws InterruptedException {
+        addChannels();
+        executor.setParallelHubs(true);
+        try {
+            checkCycle();
+            assertTrue(executor.isParallelHubs());
+        } finally {
+            executor.stop();
+        }
+        assertFalse(executor.isParallelHubs());
+    }
+
+    @Test
+    public void skipsUnchangedCommands() {
+        addChannels();
+        checkCycle();
+        executor.submitCommands();
+        executor.runCycle();
+        assertEquals(4, executor.getWriteCount());
+        assertEquals(1, actuators[0].getWriteCount());
+    }
+
+    @Test
+    public void expansionHubFailureReachesTheCycle() throws InterruptedException {
+        executor.addSensor(new StubSensorChannel(0), false);
+        executor.addSensor(new SensorChannel() {
+            @Override
+            public double read() {
+                throw new IllegalStateException("Hub disconnected");
+            }
+        }, true);
+        executor.setParallelHubs(true);
+        try {
+            executor.runCycle();
+            fail("Expected the Expansion Hub failure");
+        } catch (IllegalStateException e) {
+            assertEquals("Hub disconnected", e.getCause().getMessage());
+        } finally {
+            executor.stop();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsChannelsAfterTheFirstCycle() {
+        addChannels();
+        executor.runCycle();
+        executor.addSensor(new StubSensorChannel(0));
+    }
+}
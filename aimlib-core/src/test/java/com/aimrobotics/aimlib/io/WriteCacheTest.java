@@ -0,0 +1,54 @@
+package com.aimrobotics.aimlib.io;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.aimrobotics.aimlib.util.WritePolicy;
+
+import org.junit.Test;
+
+public class WriteCacheTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    public void skipsValuesWithinEpsilon() {
+        WriteCache cache = new WriteCache(1);
+        assertTrue(cache.shouldWrite(0, 0.5, 0));
+        assertFalse(cache.shouldWrite(0, 0.5005, 1));
+        assertTrue(cache.shouldWrite(0, 0.6, 2));
+    }
+
+    @Test
+    public void alwaysSendsAnExactZeroAfterNonzero() {
+        WriteCache cache = new WriteCache(1);
+        assertTrue(cache.shouldWrite(0, 0.0005, 0));
+        assertTrue(cache.shouldWrite(0, 0, 1));
+        assertFalse(cache.shouldWrite(0, 0, 2));
+    }
+
+    @Test
+    public void resendsUnchangedValuesOnTheInterval() {
+        WriteCache cache = new WriteCache(1);
+        cache.setPolicy(new WritePolicy(0.001, 1.0));
+        assertTrue(cache.shouldWrite(0, 0.5, 0));
+        assertFalse(cache.shouldWrite(0, 0.5, SECOND - 1));
+        assertTrue(cache.shouldWrite(0, 0.5, SECOND));
+    }
+
+    @Test
+    public void invalidateSendsEveryChannelAgain() {
+        WriteCache cache = new WriteCache(2);
+        cache.shouldWrite(0, 0.5, 0);
+        cache.shouldWrite(1, 0.5, 0);
+        cache.invalidate();
+        assertTrue(cache.shouldWrite(0, 0.5, 1));
+        assertTrue(cache.shouldWrite(1, 0.5, 1));
+    }
+
+    @Test
+    public void skipsMissingCommands() {
+        WriteCache cache = new WriteCache(1);
+        assertFalse(cache.shouldWrite(0, Double.NaN, 0));
+    }
+}
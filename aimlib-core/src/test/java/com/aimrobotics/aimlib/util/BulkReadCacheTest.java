@@ -0,0 +1,98 @@
+package com.aimrobotics.aimlib.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BulkReadCacheTest {
+
+    private final HardwareInterface controlMotor = new HardwareInterface("control", false, 1);
+    private final HardwareInterface expansionMotor = new HardwareInterface("expansion", true, 2);
+    private final HardwareInterface expansionSwitch = new HardwareInterface("switch", true, 3);
+
+    private StubBulkReadHub controlHub;
+    private StubBulkReadHub expansionHub;
+    private BulkReadCache cache;
+
+    @Before
+    public void setUp() {
+        controlHub = new StubBulkReadHub();
+        expansionHub = new StubBulkReadHub();
+        cache = new BulkReadCache(controlHub, expansionHub, BulkReadCache.RefreshMode.ONCE_PER_LOOP);
+    }
+
+    @Test
+    public void readsEachHubOncePerLoop() {
+        controlHub.getFrame().setMotorPosition(1, 100);
+        expansionHub.getFrame().setMotorPosition(2, 200);
+        expansionHub.getFrame().setDigitalState(3, true);
+
+        cache.startLoop();
+        assertEquals(100, cache.getMotorPosition(controlMotor));
+        assertEquals(200, cache.getMotorPosition(expansionMotor));
+        assertTrue(cache.getDigitalState(expansionSwitch));
+        assertEquals(100, cache.getMotorPosition(controlMotor));
+
+        assertEquals(1, controlHub.getReadCount());
+        assertEquals(1, expansionHub.getReadCount());
+        assertEquals(2, cache.getTransactionCount());
+    }
+
+    @Test
+    public void skipsHubsThatAreNotRead() {
+        cache.startLoop();
+        cache.getMotorPosition(controlMotor);
+
+        assertEquals(1, controlHub.getReadCount());
+        assertEquals(0, expansionHub.getReadCount());
+    }
+
+    @Test
+    public void servesCachedValuesUntilTheNextLoop() {
+        controlHub.getFrame().setMotorPosition(1, 100);
+        cache.startLoop();
+        assertEquals(100, cache.getMotorPosition(controlMotor));
+
+        controlHub.getFrame().setMotorPosition(1, 150);
+        assertEquals(100, cache.getMotorPosition(controlMotor));
+
+        cache.startLoop();
+        assertEquals(150, cache.getMotorPosition(controlMotor));
+        assertEquals(2, controlHub.getReadCount());
+    }
+
+    @Test
+    public void manualModeOnlyRefreshesOnInvalidate() {
+        cache.setRefreshMode(BulkReadCache.RefreshMode.MANUAL);
+        controlHub.getFrame().setMotorPosition(1, 100);
+        cache.getMotorPosition(controlMotor);
+
+        controlHub.getFrame().setMotorPosition(1, 150);
+        cache.startLoop();
+        assertEquals(100, cache.getMotorPosition(controlMotor));
+
+        cache.invalidate(false);
+        assertEquals(150, cache.getMotorPosition(controlMotor));
+        assertEquals(2, controlHub.getReadCount());
+    }
+
+    @Test
+    public void invalidateClearsTheHubsOwnCaches() {
+        cache.startLoop();
+        assertEquals(1, controlHub.getInvalidateCount());
+        assertEquals(1, expansionHub.getInvalidateCount());
+
+        cache.invalidate(true);
+        assertEquals(1, controlHub.getInvalidateCount());
+        assertEquals(2, expansionHub.getInvalidateCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rejectsExpansionDevicesWithoutAnExpansionHub() {
+        BulkReadCache controlOnly = new BulkReadCache(controlHub, null, BulkReadCache.RefreshMode.ONCE_PER_LOOP);
+        controlOnly.startLoop();
+        controlOnly.getMotorPosition(expansionMotor);
+    }
+}
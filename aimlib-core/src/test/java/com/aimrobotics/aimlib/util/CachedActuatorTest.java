@@ -0,0 +1,56 @@
+package com.aimrobotics.aimlib.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.aimrobotics.aimlib.control.ManualTimeSource;
+
+import org.junit.Test;
+
+public class CachedActuatorTest {
+
+    /**
+     * CountingActuator counts the values written to it
+     */
+    private static class CountingActuator extends CachedActuator {
+        int writes = 0;
+
+        CountingActuator(ManualTimeSource timeSource) {
+            super(WritePolicy.DEFAULT_EPSILON, 1.0, timeSource);
+        }
+
+        @Override
+        protected void write(double value) {
+            writes++;
+        }
+    }
+
+    private final ManualTimeSource timeSource = new ManualTimeSource();
+    private final CountingActuator actuator = new CountingActuator(timeSource);
+
+    @Test
+    public void resendsAnUnchangedValueAfterTheInterval() {
+        assertTrue(actuator.set(0.5));
+        timeSource.advance(0.999);
+        assertFalse(actuator.set(0.5));
+        timeSource.advance(0.001);
+        assertTrue(actuator.set(0.5));
+        assertEquals(2, actuator.writes);
+        assertEquals(1, actuator.getSkippedWrites());
+    }
+
+    @Test
+    public void alwaysSendsAnExactZeroAfterNonzero() {
+        assertTrue(actuator.set(0.0005));
+        assertTrue(actuator.set(0));
+        assertFalse(actuator.set(0));
+    }
+
+    @Test
+    public void invalidateSendsTheNextValue() {
+        actuator.set(0.5);
+        actuator.invalidate();
+        assertTrue(actuator.set(0.5));
+    }
+}
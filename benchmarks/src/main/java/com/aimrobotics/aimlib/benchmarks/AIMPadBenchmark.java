@@ -0,0 +1,72 @@
+package com.aimrobotics.aimlib.benchmarks;
+
+import com.aimrobotics.aimlib.gamepad.AIMPad;
+import com.qualcomm.robotcore.hardware.Gamepad;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIMPadBenchmark class measures one loop of gamepad handling: an update followed by the whole gamepad queries
+ * The stub gamepad changes a few inputs every call, the way a driver does
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AIMPadBenchmark {
+
+    private Gamepad gamepad;
+    private AIMPad aimPad;
+    private int tick = 0;
+
+    @Setup
+    public void setup() {
+        gamepad = new Gamepad();
+        aimPad = new AIMPad(gamepad);
+    }
+
+    /**
+     * Changes the stub gamepad the way a driver would between loops
+     */
+    private void drive() {
+        tick++;
+        gamepad.a = (tick & 8) != 0;
+        gamepad.dpad_up = (tick & 32) != 0;
+        gamepad.left_stick_y = (tick & 16) != 0 ? 0.5f : 0f;
+        gamepad.right_trigger = (tick & 64) != 0 ? 1f : 0f;
+    }
+
+    @Benchmark
+    public void update() {
+        drive();
+        aimPad.update(gamepad);
+    }
+
+    @Benchmark
+    public void updateAndQueryAll(Blackhole blackhole) {
+        drive();
+        aimPad.update(gamepad);
+        blackhole.consume(aimPad.isAnyButtonPressed());
+        blackhole.consume(aimPad.isAnyButtonHeld());
+    }
+
+    @Benchmark
+    public void queryAll(Blackhole blackhole) {
+        blackhole.consume(aimPad.isAnyButtonPressed());
+        blackhole.consume(aimPad.isAnyButtonHeld());
+    }
+}
@@ -0,0 +1,90 @@
+package com.aimrobotics.aimlib.benchmarks;
+
+import com.aimrobotics.aimlib.control.FeedforwardController;
+import com.aimrobotics.aimlib.control.LowPassFilter;
+import com.aimrobotics.aimlib.control.ManualTimeSource;
+import com.aimrobotics.aimlib.control.PIDController;
+import com.aimrobotics.aimlib.control.SimpleControlSystem;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ControlBenchmark class measures one call of each control class, as made once per loop on the robot
+ * Controllers run on a ManualTimeSource advanced by one 100 Hz tick per call
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ControlBenchmark {
+
+    private static final long TICK_NANOS = 10_000_000L; // one 100 Hz loop
+    private static final double TARGET = 90; // target of every controller
+
+    private final Signal signal = new Signal(TARGET, 5);
+
+    private ManualTimeSource clock;
+    private PIDController pidController;
+    private LowPassFilter lowPassFilter;
+    private FeedforwardController feedforwardController;
+    private SimpleControlSystem controlSystem;
+
+    @Setup
+    public void setup() {
+        clock = new ManualTimeSource();
+        pidController = new PIDController(0.02, 0.001, 0.0005, 0.8, 10, clock);
+        lowPassFilter = new LowPassFilter(0.8);
+        feedforwardController = new FeedforwardController(0.01, 0.002, 0.05, 0.1, 0.02);
+        controlSystem = new SimpleControlSystem(
+                new PIDController(0.02, 0.001, 0.0005, 0.8, 10, clock),
+                new FeedforwardController(0.01, 0.002, 0.05, 0.1, 0.02),
+                new LowPassFilter(0.8));
+        controlSystem.setTarget(TARGET);
+    }
+
+    @Benchmark
+    public double pidCalculate() {
+        clock.advanceNanos(TICK_NANOS);
+        return pidController.calculate(TARGET, signal.next());
+    }
+
+    @Benchmark
+    public double lowPassFilter() {
+        return lowPassFilter.filter(signal.next());
+    }
+
+    @Benchmark
+    public double feedforwardCalculate() {
+        double position = signal.next();
+        return feedforwardController.calculate(position, position * 0.1, 1);
+    }
+
+    /**
+     * Baseline of the feedforward formula before the cosine table, kept for comparison
+     */
+    @Benchmark
+    public double feedforwardCalculateMathCos() {
+        double position = signal.next();
+        return (0.01 * position * 0.1) + (0.002 * 1) + (Math.cos(Math.toRadians(position)) * 0.1) + 0.02;
+    }
+
+    @Benchmark
+    public double simpleControlSystemUpdate() {
+        clock.advanceNanos(TICK_NANOS);
+        double position = signal.next();
+        return controlSystem.update(position, position * 0.1, 1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.aimrobotics.aimlib.benchmarks;
+
+import com.aimrobotics.aimlib.control.ControllerBank;
+import com.aimrobotics.aimlib.control.FeedforwardController;
+import com.aimrobotics.aimlib.control.LowPassFilter;
+import com.aimrobotics.aimlib.control.PIDController;
+import com.aimrobotics.aimlib.control.SimpleControlSystem;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ControllerBankBenchmark class compares one tick of many control systems as separate objects against one ControllerBank
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ControllerBankBenchmark {
+
+    private static final double DT = 0.01; // one 100 Hz loop
+
+    @Param({"8", "12"})
+    public int channels;
+
+    private final Signal signal = new Signal(45, 5);
+
+    private SimpleControlSystem[] controlSystems;
+    private ControllerBank bank;
+
+    @Setup
+    public void setup() {
+        controlSystems = new SimpleControlSystem[channels];
+        bank = new ControllerBank(channels);
+        for (int i = 0; i < channels; i++) {
+            controlSystems[i] = new SimpleControlSystem(
+                    new PIDController(0.02 + i * 0.001, 0.001, 0.0005, 0.8, 10),
+                    new FeedforwardController(0.01, 0.002, 0.05, 0.1, 0.02),
+                    new LowPassFilter(0.8));
+            controlSystems[i].setTarget(45);
+            bank.addChannel(controlSystems[i]);
+            bank.setTarget(i, 45);
+        }
+    }
+
+    @Benchmark
+    public void objectPerController(Blackhole blackhole) {
+        for (int i = 0; i < channels; i++) {
+            double position = signal.next();
+            blackhole.consume(controlSystems[i].update(position, position * 0.1, 1, DT));
+        }
+    }
+
+    @Benchmark
+    public void controllerBank(Blackhole blackhole) {
+        for (int i = 0; i < channels; i++) {
+            double position = signal.next();
+            bank.setState(i, position);
+            bank.setReference(i, position * 0.1, 1);
+        }
+        bank.update(DT);
+        for (int i = 0; i < channels; i++) {
+            blackhole.consume(bank.getOutput(i));
+        }
+    }
+
+    /**
+     * Bank update alone, without the per channel input and output calls, to separate their cost from the update loop
+     */
+    @Benchmark
+    public void controllerBankUpdateOnly() {
+        bank.update(DT);
+    }
+}
@@ -0,0 +1,77 @@
+package com.aimrobotics.aimlib.benchmarks;
+
+import com.aimrobotics.aimlib.io.IoExecutor;
+import com.aimrobotics.aimlib.io.StubActuatorChannel;
+import com.aimrobotics.aimlib.io.StubSensorChannel;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IoExecutorBenchmark class measures one I/O cycle over stub hubs, with the hubs run one after the other or at the same time
+ * Every stub transaction waits a fixed latency, so the serial cycle costs both hubs added together and the parallel cycle the slower hub
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IoExecutorBenchmark {
+
+    private static final int SENSORS_PER_HUB = 3; // sensors read on each hub
+    private static final int ACTUATORS_PER_HUB = 2; // actuators written on each hub
+
+    @Param({"0.0002", "0.002"})
+    public double latencySeconds;
+
+    @Param({"false", "true"})
+    public boolean parallelHubs;
+
+    private IoExecutor executor;
+    private double command = 0; // command written to every actuator, changed each cycle so every actuator is written
+
+    @Setup
+    public void setup() {
+        executor = new IoExecutor();
+        for (int hub = 0; hub < 2; hub++) {
+            boolean isExpansionHub = hub == IoExecutor.EXPANSION_HUB;
+            for (int i = 0; i < SENSORS_PER_HUB; i++) {
+                executor.addSensor(new StubSensorChannel(latencySeconds), isExpansionHub);
+            }
+            for (int i = 0; i < ACTUATORS_PER_HUB; i++) {
+                executor.addActuator(new StubActuatorChannel(latencySeconds), isExpansionHub);
+            }
+        }
+        executor.setParallelHubs(parallelHubs);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        executor.stop();
+    }
+
+    @Benchmark
+    public void cycle(Blackhole blackhole) {
+        command = command == 0 ? 0.5 : 0;
+        for (int i = 0; i < executor.getActuatorCount(); i++) {
+            executor.setCommand(i, command);
+        }
+        executor.submitCommands();
+        executor.runCycle();
+        blackhole.consume(executor.getSensorFrame().getValue(0));
+    }
+}
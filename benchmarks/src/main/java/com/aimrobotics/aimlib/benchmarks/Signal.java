@@ -0,0 +1,35 @@
+package com.aimrobotics.aimlib.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Signal class replays precomputed noisy samples so that benchmarks do not run on constant inputs
+ */
+class Signal {
+
+    private static final int SAMPLES = 1024; // number of samples, a power of two
+
+    private final double[] samples = new double[SAMPLES]; // precomputed samples
+    private int index = 0; // index of the next sample
+
+    /**
+     * Constructor for Signal
+     * @param center value the samples are centered on
+     * @param noise largest distance of a sample from the center
+     */
+    Signal(double center, double noise) {
+        Random random = new Random(18657);
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = center + (random.nextDouble() * 2 - 1) * noise;
+        }
+    }
+
+    /**
+     * Gets the next sample
+     * @return next sample
+     */
+    double next() {
+        index = (index + 1) & (SAMPLES - 1);
+        return samples[index];
+    }
+}
@@ -0,0 +1,92 @@
+package com.qualcomm.robotcore.hardware;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Gamepad stub for running the AIMPad benchmarks off the robot
+ * Has the fields AIMPad reads, and copies through a byte array the way the SDK does so that copy costs are comparable
+ */
+public class Gamepad {
+
+    public volatile float left_stick_x = 0f;
+    public volatile float left_stick_y = 0f;
+    public volatile float right_stick_x = 0f;
+    public volatile float right_stick_y = 0f;
+    public volatile boolean dpad_up = false;
+    public volatile boolean dpad_down = false;
+    public volatile boolean dpad_left = false;
+    public volatile boolean dpad_right = false;
+    public volatile boolean a = false;
+    public volatile boolean b = false;
+    public volatile boolean x = false;
+    public volatile boolean y = false;
+    public volatile boolean guide = false;
+    public volatile boolean start = false;
+    public volatile boolean back = false;
+    public volatile boolean left_bumper = false;
+    public volatile boolean right_bumper = false;
+    public volatile boolean left_stick_button = false;
+    public volatile boolean right_stick_button = false;
+    public volatile float left_trigger = 0f;
+    public volatile float right_trigger = 0f;
+
+    private static final int BUFFER_SIZE = 6 * 4 + 4; // six axes and one word of buttons
+
+    /**
+     * Copies the state of another gamepad into this one
+     * @param gamepad gamepad to copy from
+     */
+    public void copy(Gamepad gamepad) {
+        fromByteArray(gamepad.toByteArray());
+    }
+
+    private byte[] toByteArray() {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        buffer.putFloat(left_stick_x).putFloat(left_stick_y).putFloat(right_stick_x).putFloat(right_stick_y)
+                .putFloat(left_trigger).putFloat(right_trigger);
+        int buttons = 0;
+        buttons = (buttons << 1) + (dpad_up ? 1 : 0);
+        buttons = (buttons << 1) + (dpad_down ? 1 : 0);
+        buttons = (buttons << 1) + (dpad_left ? 1 : 0);
+        buttons = (buttons << 1) + (dpad_right ? 1 : 0);
+        buttons = (buttons << 1) + (a ? 1 : 0);
+        buttons = (buttons << 1) + (b ? 1 : 0);
+        buttons = (buttons << 1) + (x ? 1 : 0);
+        buttons = (buttons << 1) + (y ? 1 : 0);
+        buttons = (buttons << 1) + (guide ? 1 : 0);
+        buttons = (buttons << 1) + (start ? 1 : 0);
+        buttons = (buttons << 1) + (back ? 1 : 0);
+        buttons = (buttons << 1) + (left_bumper ? 1 : 0);
+        buttons = (buttons << 1) + (right_bumper ? 1 : 0);
+        buttons = (buttons << 1) + (left_stick_button ? 1 : 0);
+        buttons = (buttons << 1) + (right_stick_button ? 1 : 0);
+        buffer.putInt(buttons);
+        return buffer.array();
+    }
+
+    private void fromByteArray(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        left_stick_x = buffer.getFloat();
+        left_stick_y = buffer.getFloat();
+        right_stick_x = buffer.getFloat();
+        right_stick_y = buffer.getFloat();
+        left_trigger = buffer.getFloat();
+        right_trigger = buffer.getFloat();
+        int buttons = buffer.getInt();
+        right_stick_button = (buttons & 0x0001) != 0;
+        left_stick_button = (buttons & 0x0002) != 0;
+        right_bumper = (buttons & 0x0004) != 0;
+        left_bumper = (buttons & 0x0008) != 0;
+        back = (buttons & 0x0010) != 0;
+        start = (buttons & 0x0020) != 0;
+        guide = (buttons & 0x0040) != 0;
+        y = (buttons & 0x0080) != 0;
+        x = (buttons & 0x0100) != 0;
+        b = (buttons & 0x0200) != 0;
+        a = (buttons & 0x0400) != 0;
+        dpad_right = (buttons & 0x0800) != 0;
+        dpad_left = (buttons & 0x1000) != 0;
+        dpad_down = (buttons & 0x2000) != 0;
+        dpad_up = (buttons & 0x4000) != 0;
+    }
+}